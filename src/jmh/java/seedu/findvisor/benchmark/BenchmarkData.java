@@ -0,0 +1,34 @@
+package seedu.findvisor.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.util.PersonGenerator;
+
+/**
+ * Creates the persons that the benchmarks run on. The same count always gives the same persons, so that results
+ * of different runs can be compared.
+ */
+public class BenchmarkData {
+
+    private static final long SEED = 42;
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 4, 1);
+
+    /**
+     * Returns the first {@code count} benchmark persons. Every person has a different phone number.
+     */
+    public static List<Person> createPersons(int count) {
+        return new PersonGenerator(SEED, BASE_DATE).generatePersons(count).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns an address book with the first {@code count} benchmark persons.
+     */
+    public static AddressBook createAddressBook(int count) {
+        return new PersonGenerator(SEED, BASE_DATE).generateAddressBook(count);
+    }
+
+}
@@ -0,0 +1,97 @@
+package seedu.findvisor.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.logic.Autocompleter;
+import seedu.findvisor.logic.Autocompleter.Completion;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.person.Name;
+import seedu.findvisor.model.person.Person;
+
+/**
+ * Measures completing names and tags in an address book of each size, and keeping the completions up to date as a
+ * person is edited. Completing should take well under a millisecond at every size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompletionBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private Autocompleter autocompleter;
+    private Person lastPerson;
+    private Person renamedLastPerson;
+    private String nameCommand;
+    private String uniqueNameCommand;
+    private String tagCommand;
+
+    /**
+     * Creates an address book of {@code size} persons, and commands that complete the name of its last person.
+     */
+    @Setup(Level.Trial)
+    public void setUpAutocompleter() {
+        addressBook = BenchmarkData.createAddressBook(size);
+        autocompleter = new Autocompleter(addressBook.getPersonList());
+        lastPerson = addressBook.getPersonList().get(size - 1);
+        renamedLastPerson = new Person(new Name(lastPerson.getName().fullName + " Jr"), lastPerson.getPhone(),
+                lastPerson.getEmail(), lastPerson.getAddress(), lastPerson.getTags());
+
+        String lastName = lastPerson.getName().fullName;
+        // The first letter of a name starts many names, and all but its last letter usually starts only that name
+        nameCommand = "find n/" + lastName.substring(0, 1);
+        uniqueNameCommand = "find n/" + lastName.substring(0, lastName.length() - 1);
+        tagCommand = "find t/" + lastPerson.getTags().stream().findFirst().map(tag -> tag.tagName.substring(0, 1))
+                .orElse("a");
+    }
+
+    @Benchmark
+    public Optional<Completion> complete_name() {
+        return autocompleter.complete(nameCommand);
+    }
+
+    @Benchmark
+    public Optional<Completion> complete_uniqueName() {
+        return autocompleter.complete(uniqueNameCommand);
+    }
+
+    @Benchmark
+    public Optional<Completion> complete_tag() {
+        return autocompleter.complete(tagCommand);
+    }
+
+    @Benchmark
+    public Optional<Completion> complete_commandWord() {
+        return autocompleter.complete("de");
+    }
+
+    /**
+     * Renames the last person and back, so that the completions are updated twice and the address book is the same
+     * after every invocation.
+     */
+    @Benchmark
+    public void setPerson() {
+        addressBook.setPerson(lastPerson, renamedLastPerson);
+        addressBook.setPerson(renamedLastPerson, lastPerson);
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.findvisor.benchmark;
+
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.logic.commands.Command;
+import seedu.findvisor.logic.parser.AddressBookParser;
+import seedu.findvisor.logic.parser.ArgumentMultimap;
+import seedu.findvisor.logic.parser.ArgumentTokenizer;
+import seedu.findvisor.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures tokenizing arguments and parsing whole commands. Parsing does not depend on the size of the book,
+ * so these benchmarks have no size parameter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/Alex Yeoh p/87438807 e/alexyeoh@example.com "
+            + "a/Blk 30 Geylang Street 29, #06-40 t/friends t/colleagues";
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+
+    @Benchmark
+    public Command parseCommand_add() throws ParseException {
+        return parser.parseCommand("add" + ADD_ARGUMENTS);
+    }
+
+    @Benchmark
+    public Command parseCommand_find() throws ParseException {
+        return parser.parseCommand("find n/Alex");
+    }
+
+    @Benchmark
+    public Command parseCommand_list() throws ParseException {
+        return parser.parseCommand("list");
+    }
+
+}
@@ -0,0 +1,84 @@
+package seedu.findvisor.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.model.AddressBook;
+
+/**
+ * Measures creating an address book of each size, and the heap that its persons retain once it has been created.
+ * The retained heap per person, including the strings of their fields, is printed at the end of each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PersonFootprintBenchmark {
+
+    // Each heap measurement is the least heap used after any of these garbage collections
+    private static final int GC_COUNT = 5;
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    private long retainedBytesBefore;
+    private AddressBook addressBook;
+
+    /**
+     * Measures the heap retained before the address book is created.
+     */
+    @Setup(Level.Iteration)
+    public void measureHeapBefore() {
+        addressBook = null;
+        retainedBytesBefore = getRetainedHeapBytes();
+    }
+
+    /**
+     * Prints the heap retained by the address book created in the iteration, per person.
+     */
+    @TearDown(Level.Iteration)
+    public void measureHeapAfter() {
+        long retainedBytes = getRetainedHeapBytes() - retainedBytesBefore;
+        System.out.printf("Address book of %d person(s) retains %d bytes (%d bytes per person)%n",
+                addressBook.getPersonList().size(), retainedBytes, retainedBytes / size);
+        addressBook = null;
+    }
+
+    @Benchmark
+    public void createAddressBook() {
+        // Kept in a field, so that the address book is still retained when the heap is measured
+        addressBook = BenchmarkData.createAddressBook(size);
+    }
+
+    /**
+     * Returns the bytes of heap in use after a full garbage collection, as the least of several collections, so that
+     * garbage left behind by any one collection is not counted.
+     */
+    private static long getRetainedHeapBytes() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long retainedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+            retainedBytes = Math.min(retainedBytes, memory.getHeapMemoryUsage().getUsed());
+        }
+        return retainedBytes;
+    }
+
+}
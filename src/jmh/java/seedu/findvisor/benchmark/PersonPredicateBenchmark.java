@@ -0,0 +1,111 @@
+package seedu.findvisor.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonAddressPredicate;
+import seedu.findvisor.model.person.PersonEmailPredicate;
+import seedu.findvisor.model.person.PersonMeetingPredicate;
+import seedu.findvisor.model.person.PersonMeetingRemarkPredicate;
+import seedu.findvisor.model.person.PersonNamePredicate;
+import seedu.findvisor.model.person.PersonPhonePredicate;
+import seedu.findvisor.model.person.PersonRemarkPredicate;
+import seedu.findvisor.model.person.PersonTodayMeetingsPredicate;
+import seedu.findvisor.model.tag.PersonTagsPredicate;
+
+/**
+ * Measures testing every person in a book of each size with each {@code PersonPredicate}, as {@code find} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<Person> persons;
+
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        persons = BenchmarkData.createPersons(size);
+    }
+
+    /**
+     * Returns the number of persons that match {@code predicate}.
+     */
+    private int countMatches(Predicate<Person> predicate) {
+        int count = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int name() {
+        return countMatches(new PersonNamePredicate("yeoh"));
+    }
+
+    @Benchmark
+    public int phone() {
+        return countMatches(new PersonPhonePredicate("8000"));
+    }
+
+    @Benchmark
+    public int email() {
+        return countMatches(new PersonEmailPredicate("tan"));
+    }
+
+    @Benchmark
+    public int address() {
+        return countMatches(new PersonAddressPredicate("Blk 1"));
+    }
+
+    @Benchmark
+    public int tags() {
+        return countMatches(new PersonTagsPredicate(List.of("family", "friends")));
+    }
+
+    @Benchmark
+    public int meeting() {
+        return countMatches(new PersonMeetingPredicate(LocalDate.of(2024, 4, 1)));
+    }
+
+    @Benchmark
+    public int meetingRemark() {
+        return countMatches(new PersonMeetingRemarkPredicate("review"));
+    }
+
+    @Benchmark
+    public int remark() {
+        return countMatches(new PersonRemarkPredicate("house"));
+    }
+
+    @Benchmark
+    public int todayMeetings() {
+        return countMatches(new PersonTodayMeetingsPredicate());
+    }
+
+}
@@ -0,0 +1,103 @@
+package seedu.findvisor.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.UniquePersonList;
+
+/**
+ * Measures adding, finding, replacing and removing a person in a {@code UniquePersonList} of each size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private Person newPerson;
+    private Person lastPerson;
+    private Person editedLastPerson;
+    private Person absentPerson;
+
+    /**
+     * Creates a list of {@code size} persons, and persons to add to and look up in it.
+     */
+    @Setup(Level.Trial)
+    public void setUpPersons() {
+        // Two more persons than are in the list are created, one to add and one that is never in the list
+        List<Person> benchmarkPersons = BenchmarkData.createPersons(size + 2);
+        persons = new UniquePersonList();
+        persons.setPersons(benchmarkPersons.subList(0, size));
+        newPerson = benchmarkPersons.get(size);
+        lastPerson = benchmarkPersons.get(size - 1);
+        editedLastPerson = new Person(lastPerson.getName(), lastPerson.getPhone(), lastPerson.getEmail(),
+                lastPerson.getAddress(), lastPerson.getTags());
+        absentPerson = benchmarkPersons.get(size + 1);
+    }
+
+    /**
+     * Removes the person added by {@link #add()}, so that every invocation adds to a list of {@code size} persons.
+     */
+    @Setup(Level.Invocation)
+    public void removeNewPerson() {
+        if (persons.contains(newPerson)) {
+            persons.remove(newPerson);
+        }
+    }
+
+    @Benchmark
+    public void add() {
+        persons.add(newPerson);
+    }
+
+    @Benchmark
+    public boolean contains_present() {
+        return persons.contains(lastPerson);
+    }
+
+    @Benchmark
+    public boolean contains_absent() {
+        return persons.contains(absentPerson);
+    }
+
+    /**
+     * Replaces the last person with an edited copy and back, so that the list is the same after every invocation.
+     */
+    @Benchmark
+    public void setPerson() {
+        persons.setPerson(lastPerson, editedLastPerson);
+        persons.setPerson(editedLastPerson, lastPerson);
+    }
+
+    /**
+     * Removes the first person, which moves every other person, and adds it back to the end, so that the list has
+     * {@code size} persons after every invocation.
+     */
+    @Benchmark
+    public void removeFirstAndAdd() {
+        Person firstPerson = persons.asUnmodifiableObservableList().get(0);
+        persons.remove(firstPerson);
+        persons.add(firstPerson);
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.findvisor.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.findvisor.benchmark.BenchmarkData;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.exceptions.IllegalValueException;
+import seedu.findvisor.commons.util.JsonFileFormat;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+
+/**
+ * Measures reading and saving a JSON data file of each size and format, and converting its contents to the model.
+ * The size of the data file in each format is printed at the end of each trial.
+ * It is in the storage package so that it can measure {@code JsonSerializableAddressBook} directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class StorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"PRETTY", "COMPACT", "GZIP"})
+    private JsonFileFormat format;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+    private JsonAddressBookStorage savingStorage;
+    private JsonSerializableAddressBook serializableAddressBook;
+
+    /**
+     * Writes a data file of {@code size} persons in {@code format} to a temporary directory.
+     */
+    @Setup(Level.Trial)
+    public void setUpDataFile() throws IOException {
+        directory = Files.createTempDirectory("findvisor-benchmark");
+        addressBook = BenchmarkData.createAddressBook(size);
+        storage = new JsonAddressBookStorage(directory.resolve("addressbook.json"), format);
+        storage.saveAddressBook(addressBook);
+        savingStorage = new JsonAddressBookStorage(directory.resolve("saved.json"), format);
+        serializableAddressBook = new JsonSerializableAddressBook(addressBook);
+    }
+
+    /**
+     * Prints the size of the data file, and deletes the temporary directory and the data files in it.
+     */
+    @TearDown(Level.Trial)
+    public void deleteDataFiles() throws IOException {
+        long fileSize = Files.size(storage.getAddressBookFilePath());
+        System.out.printf("Data file of %d person(s) in %s format: %d bytes (%d bytes per person)%n", size, format,
+                fileSize, fileSize / size);
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(savingStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        savingStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializableAddressBook.toModelType();
+    }
+
+}
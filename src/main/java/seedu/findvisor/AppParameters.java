@@ -18,6 +18,7 @@ public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private Path startupReportPath;
 
     public Path getConfigPath() {
         return configPath;
@@ -27,6 +28,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the path of the file to write the startup report to, or null if no report was requested.
+     */
+    public Path getStartupReportPath() {
+        return startupReportPath;
+    }
+
+    public void setStartupReportPath(Path startupReportPath) {
+        this.startupReportPath = startupReportPath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -35,11 +47,20 @@ public class AppParameters {
         Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
-        if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
-            logger.warning("Invalid config path " + configPathParameter + ". Using default config path.");
-            configPathParameter = null;
+        boolean isValidConfigPath = configPathParameter != null && FileUtil.isValidPath(configPathParameter);
+        if (configPathParameter != null && !isValidConfigPath) {
+            logger.warning(() -> "Invalid config path " + configPathParameter + ". Using default config path.");
+        }
+        appParameters.setConfigPath(isValidConfigPath ? Paths.get(configPathParameter) : null);
+
+        String startupReportParameter = namedParameters.get("startup-report");
+        boolean isValidStartupReportPath = startupReportParameter != null
+                && FileUtil.isValidPath(startupReportParameter);
+        if (startupReportParameter != null && !isValidStartupReportPath) {
+            logger.warning(() -> "Invalid startup report path " + startupReportParameter
+                    + ". No startup report will be written.");
         }
-        appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
+        appParameters.setStartupReportPath(isValidStartupReportPath ? Paths.get(startupReportParameter) : null);
 
         return appParameters;
     }
@@ -56,18 +77,20 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(configPath, otherAppParameters.configPath);
+        return Objects.equals(configPath, otherAppParameters.configPath)
+                && Objects.equals(startupReportPath, otherAppParameters.startupReportPath);
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, startupReportPath);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("configPath", configPath)
+                .add("startupReportPath", startupReportPath)
                 .toString();
     }
 }
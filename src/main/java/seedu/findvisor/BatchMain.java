@@ -0,0 +1,108 @@
+package seedu.findvisor;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.Config;
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.ConfigUtil;
+import seedu.findvisor.commons.util.StringUtil;
+import seedu.findvisor.logic.Logic;
+import seedu.findvisor.logic.LogicManager;
+import seedu.findvisor.logic.ScriptRunner;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.UserPrefs;
+import seedu.findvisor.storage.AddressBookStorage;
+import seedu.findvisor.storage.DeferredSaveStorage;
+import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.StorageManager;
+
+/**
+ * The entry point for running FINDvisor without the GUI.
+ * Executes the commands in a script file (or standard input if no file is given), one command per line,
+ * against the same data file used by the GUI, and prints throughput statistics when done.
+ *
+ * Usage: {@code BatchMain [--config CONFIG_FILE] [--save-every N] [SCRIPT_FILE]}
+ */
+public class BatchMain {
+
+    public static final String USAGE = "Usage: BatchMain [--config CONFIG_FILE] [--save-every N] [SCRIPT_FILE]";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        Path configFilePath = Config.DEFAULT_CONFIG_FILE;
+        Path scriptFilePath = null;
+        int saveInterval = 0;
+
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                case "--config":
+                    configFilePath = Paths.get(args[++i]);
+                    break;
+                case "--save-every":
+                    saveInterval = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    scriptFilePath = Paths.get(args[i]);
+                }
+            }
+        } catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        try {
+            ScriptRunner.Summary summary = run(configFilePath, scriptFilePath, saveInterval);
+            System.out.println(summary.format());
+            System.exit(summary.getFailedCount() == 0 ? 0 : 1);
+        } catch (DataLoadingException | IOException | IllegalArgumentException e) {
+            logger.severe(() -> "Batch execution aborted: " + StringUtil.getDetails(e));
+            System.err.println("Batch execution aborted: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the data files specified by the config file at {@code configFilePath}, executes the script at
+     * {@code scriptFilePath} (or standard input if null) and returns the summary of the run.
+     * Unlike the GUI, a data file that cannot be loaded aborts the run instead of being replaced.
+     */
+    private static ScriptRunner.Summary run(Path configFilePath, Path scriptFilePath, int saveInterval)
+            throws DataLoadingException, IOException {
+        Config config = ConfigUtil.readConfig(configFilePath).orElse(new Config());
+        LogsCenter.init(config);
+
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = userPrefsStorage.readUserPrefs().orElse(new UserPrefs());
+        AddressBookStorage addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+        DeferredSaveStorage storage = new DeferredSaveStorage(
+                new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logger.info(() -> "Using data file : " + storage.getAddressBookFilePath());
+        ReadOnlyAddressBook initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        Model model = new ModelManager(initialData, userPrefs);
+        Logic logic = new LogicManager(model, storage);
+
+        ScriptRunner scriptRunner = new ScriptRunner(logic, storage, saveInterval, System.err);
+        try (BufferedReader script = scriptFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptFilePath, StandardCharsets.UTF_8)) {
+            return scriptRunner.run(script);
+        } finally {
+            storage.close();
+        }
+    }
+
+}
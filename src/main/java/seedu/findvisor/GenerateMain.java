@@ -0,0 +1,82 @@
+package seedu.findvisor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.util.JsonFileFormat;
+import seedu.findvisor.commons.util.StringUtil;
+import seedu.findvisor.model.util.PersonGenerator;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a JSON data file of generated persons, for trying the app with a large address book.
+ * The persons are streamed to the file as they are generated, so a file of millions of persons can be written.
+ * The same seed gives the same persons on the same day; their meetings are around the day the file is written.
+ * The file is compressed if its name ends with {@value #GZIP_EXTENSION}.
+ *
+ * Usage: {@code GenerateMain DATA_FILE PERSON_COUNT [SEED]}
+ */
+public class GenerateMain {
+
+    public static final String USAGE = "Usage: GenerateMain DATA_FILE PERSON_COUNT [SEED]";
+    public static final String MESSAGE_INVALID_COUNT = "PERSON_COUNT and SEED must be whole numbers, "
+            + "and PERSON_COUNT must be between 0 and " + PersonGenerator.MAX_PERSONS + ".";
+    public static final String MESSAGE_SUCCESS = "Wrote %1$d generated person(s) to %2$s.";
+    public static final String GZIP_EXTENSION = ".gz";
+
+    private static final long DEFAULT_SEED = 0;
+
+    private static final Logger logger = LogsCenter.getLogger(GenerateMain.class);
+
+    public static void main(String[] args) {
+        if (args.length != 2 && args.length != 3) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path dataFilePath = Paths.get(args[0]);
+        int personCount;
+        long seed;
+        try {
+            personCount = Integer.parseInt(args[1]);
+            seed = args.length == 3 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        } catch (NumberFormatException e) {
+            personCount = -1;
+            seed = DEFAULT_SEED;
+        }
+        if (personCount < 0 || personCount > PersonGenerator.MAX_PERSONS) {
+            System.err.println(MESSAGE_INVALID_COUNT);
+            System.exit(1);
+        }
+
+        try {
+            generate(dataFilePath, personCount, seed, LocalDate.now());
+            System.out.println(String.format(MESSAGE_SUCCESS, personCount, dataFilePath));
+            System.exit(0);
+        } catch (IOException e) {
+            logger.severe(() -> "Generation failed: " + StringUtil.getDetails(e));
+            System.err.println("Generation failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Writes {@code personCount} persons generated with {@code seed}, with meetings around {@code baseDate}, to the
+     * data file at {@code dataFilePath}, replacing any data in it.
+     *
+     * @throws IOException if the data file could not be written.
+     */
+    public static void generate(Path dataFilePath, int personCount, long seed, LocalDate baseDate)
+            throws IOException {
+        JsonFileFormat format = dataFilePath.toString().endsWith(GZIP_EXTENSION)
+                ? JsonFileFormat.GZIP
+                : JsonFileFormat.COMPACT;
+        new JsonAddressBookStorage(dataFilePath, format)
+                .savePersons(new PersonGenerator(seed, baseDate).generatePersons(personCount));
+    }
+
+}
@@ -3,14 +3,22 @@ package seedu.findvisor;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
+import seedu.findvisor.api.ApiServer;
 import seedu.findvisor.commons.core.Config;
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.core.Version;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.metrics.MetricsDumper;
 import seedu.findvisor.commons.util.ConfigUtil;
 import seedu.findvisor.commons.util.StringUtil;
 import seedu.findvisor.logic.Logic;
@@ -25,11 +33,13 @@ import seedu.findvisor.model.util.SampleDataUtil;
 import seedu.findvisor.storage.AddressBookStorage;
 import seedu.findvisor.storage.JsonAddressBookStorage;
 import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.LiveReloadStorage;
 import seedu.findvisor.storage.Storage;
 import seedu.findvisor.storage.StorageManager;
 import seedu.findvisor.storage.UserPrefsStorage;
 import seedu.findvisor.ui.Ui;
 import seedu.findvisor.ui.UiManager;
+import seedu.findvisor.ui.UiResourceCache;
 
 /**
  * Runs the application.
@@ -40,31 +50,165 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    /** Number of persons added to the model at a time when the address book is loaded progressively. */
+    private static final int PROGRESSIVE_LOADING_BATCH_SIZE = 5000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+
+    private LiveReloadStorage liveReloadStorage;
+    private MetricsDumper metricsDumper;
+    // Null if no startup report was requested
+    private Path startupReportPath;
+    private CompletableFuture<Logic> logicFuture;
+    private CompletableFuture<Void> servicesFuture;
+    // Null unless the address book is loaded progressively
+    private JsonAddressBookStorage progressiveLoadingStorage;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FINDvisor ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
+        StartupTracer tracer = StartupTracer.get();
+        try (StartupTracer.Span span = tracer.start("config")) {
+            AppParameters appParameters = AppParameters.parse(getParameters());
+            startupReportPath = appParameters.getStartupReportPath();
+            config = initConfig(appParameters.getConfigPath());
+            initLogging(config);
+        }
+
+        // FXML and CSS resources are preloaded in the background while the data files are being read.
+        UiResourceCache.preloadAsync();
+
+        UserPrefs userPrefs;
+        AddressBookStorage addressBookStorage;
+        try (StartupTracer.Span span = tracer.start("prefs")) {
+            UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+            userPrefs = initPrefs(userPrefsStorage);
+            addressBookStorage = StorageManager.createAddressBookStorage(userPrefs);
+            storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        }
+
+        if (config.isProgressiveLoadingEnabled() && addressBookStorage instanceof JsonAddressBookStorage) {
+            // The main window is shown over an empty model, and the data file is read into it once the window is shown
+            progressiveLoadingStorage = (JsonAddressBookStorage) addressBookStorage;
+            logicFuture = CompletableFuture.completedFuture(initLoadingLogic(userPrefs));
+        } else {
+            // The data file is read on a background thread, while the main window is loaded on the JavaFX thread.
+            // The UI waits for the logic, and the API server and metrics wait for the model, before they start.
+            logicFuture = CompletableFuture.supplyAsync(() -> initLogic(userPrefs,
+                    addressBookStorage instanceof JsonAddressBookStorage));
+        }
+        servicesFuture = logicFuture.thenRun(this::initServices);
+        ui = new UiManager(userPrefs.getGuiSettings(), logicFuture);
+    }
+
+    /**
+     * Reads the address book and returns the {@code Logic} over it. Sets {@link #model}, {@link #logic} and
+     * {@link #storage}, which may only be used once the returned {@code Logic} is available.
+     *
+     * @param isLiveReloadable true if the data file can be reloaded when it is changed by another program.
+     */
+    private Logic initLogic(UserPrefs userPrefs, boolean isLiveReloadable) {
+        try (StartupTracer.Span span = StartupTracer.get().start("model")) {
+            model = initModelManager(storage, userPrefs);
+            if (isLiveReloadable) {
+                storage = initLiveReload(storage);
+            }
+            logic = new LogicManager(model, storage, Platform::runLater);
+            return logic;
+        }
+    }
+
+    /**
+     * Returns the {@code Logic} over an empty address book that is marked as loading, which the persons in the data
+     * file are added to by {@link #startProgressiveLoading()}. Sets {@link #model}, {@link #logic} and
+     * {@link #storage}. The data file is only watched for external changes once it has been loaded.
+     */
+    private Logic initLoadingLogic(UserPrefs userPrefs) {
+        try (StartupTracer.Span span = StartupTracer.get().start("model")) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            model.setLoading(true);
+            liveReloadStorage = new LiveReloadStorage(storage, this::mergeExternalChanges);
+            storage = liveReloadStorage;
+            logic = new LogicManager(model, storage, Platform::runLater);
+            return logic;
+        }
+    }
+
+    /**
+     * Reads the persons in the data file on a background thread, adding each batch of them to the model on the
+     * JavaFX application thread, so that the persons read so far can be viewed and searched while the rest are read.
+     * The model stops loading once all of the persons have been added. <br>
+     * As in {@link #initModelManager}, the sample address book is used instead if the data file is not found,
+     * and an empty address book is used instead if errors occur when reading the data file.
+     */
+    private void startProgressiveLoading() {
+        Thread loaderThread = new Thread(() -> {
+            Path filePath = progressiveLoadingStorage.getAddressBookFilePath();
+            logger.info(() -> "Loading data file progressively : " + filePath);
+            long startTime = System.nanoTime();
 
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+            // The data to replace the persons added so far with, if the data file could not be used
+            ReadOnlyAddressBook replacementData = null;
+            try {
+                boolean isFound = progressiveLoadingStorage.readPersons(model.getInternPool(),
+                        PROGRESSIVE_LOADING_BATCH_SIZE, batch -> Platform.runLater(() -> model.addPersons(batch)));
+                if (!isFound) {
+                    logger.info(() -> "Creating a new data file " + filePath + " populated with a sample AddressBook.");
+                    replacementData = SampleDataUtil.getSampleAddressBook();
+                }
+            } catch (DataLoadingException e) {
+                logger.warning(() -> "Data file at " + filePath + " could not be loaded."
+                        + " Will be starting with an empty AddressBook.");
+                replacementData = new AddressBook();
+            }
 
-        model = initModelManager(storage, userPrefs);
+            ReadOnlyAddressBook finalReplacementData = replacementData;
+            Platform.runLater(() -> {
+                if (finalReplacementData != null) {
+                    model.setAddressBook(finalReplacementData);
+                }
+                model.setLoading(false);
+                logger.info(() -> "Loaded " + model.getAddressBook().getPersonList().size() + " person(s) in "
+                        + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+                startLiveReload(liveReloadStorage);
+            });
+        }, "address-book-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
 
-        logic = new LogicManager(model, storage);
+    /**
+     * Starts the optional services that use the model, as set in the config.
+     */
+    private void initServices() {
+        if (config.isApiServerEnabled()) {
+            initApiServer(config.getApiServerPort());
+        }
+        if (config.getMetricsDumpIntervalSeconds() > 0) {
+            metricsDumper = new MetricsDumper(model.getCommandMetrics(), config.getMetricsFilePath());
+            metricsDumper.start(config.getMetricsDumpIntervalSeconds());
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Starts an {@code ApiServer} on {@code port} that executes commands on the JavaFX application thread.
+     * The application continues without the server if it cannot be started.
+     */
+    private void initApiServer(int port) {
+        try {
+            apiServer = new ApiServer(logic, Platform::runLater, port, ApiServer.DEFAULT_TOKEN_FILE_PATH);
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to start API server on port " + port + " : " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     /**
@@ -73,24 +217,70 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        logger.info(() -> "Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
+        try (StartupTracer.Span span = StartupTracer.get().start("data file read")) {
+            addressBookOptional = storage.readAddressBook(storage.getAddressBookFilePath(), StartupTracer.get());
             if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                logger.info(() -> "Creating a new data file " + storage.getAddressBookFilePath()
                         + " populated with a sample AddressBook.");
             }
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+            logger.warning(() -> "Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
                     + " Will be starting with an empty AddressBook.");
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        try (StartupTracer.Span span = StartupTracer.get().start("model build")) {
+            return new ModelManager(initialData, userPrefs);
+        }
+    }
+
+    /**
+     * Returns {@code storage} wrapped so that changes made to its address book file by other programs are merged
+     * into the model on the JavaFX application thread. Returns {@code storage} itself if the file cannot be watched.
+     */
+    private Storage initLiveReload(Storage storage) {
+        liveReloadStorage = new LiveReloadStorage(storage, this::mergeExternalChanges);
+        if (!startLiveReload(liveReloadStorage)) {
+            liveReloadStorage = null;
+            return storage;
+        }
+        return liveReloadStorage;
+    }
+
+    /**
+     * Starts watching the address book file of {@code liveReloadStorage} for changes made by other programs.
+     *
+     * @return false if the file cannot be watched.
+     */
+    private boolean startLiveReload(LiveReloadStorage liveReloadStorage) {
+        try {
+            liveReloadStorage.startWatching();
+            return true;
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to watch data file for external changes : " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * Merges {@code newData}, read from the address book file after it was changed by another program, into the
+     * model on the JavaFX application thread. {@code newData} is dropped if the file has been saved since it was
+     * read, as the save has already replaced the external changes with the data in the model.
+     */
+    private void mergeExternalChanges(ReadOnlyAddressBook newData) {
+        Platform.runLater(() -> {
+            if (!liveReloadStorage.isLatestReload(newData)) {
+                logger.info("Data file was saved since it was reloaded, discarding the external changes");
+                return;
+            }
+            int changeCount = model.mergeAddressBook(newData);
+            logger.info(() -> "Merged " + changeCount + " externally changed person(s) into the address book");
+        });
     }
 
     private void initLogging(Config config) {
@@ -104,25 +294,22 @@ public class MainApp extends Application {
      */
     protected Config initConfig(Path configFilePath) {
         Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
 
         if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
+            logger.info(() -> "Custom Config file specified " + configFilePath);
         }
+        Path configFilePathUsed = configFilePath != null ? configFilePath : Config.DEFAULT_CONFIG_FILE;
 
-        logger.info("Using config file : " + configFilePathUsed);
+        logger.info(() -> "Using config file : " + configFilePathUsed);
 
         try {
             Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
             if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
+                logger.info(() -> "Creating new config file " + configFilePathUsed);
             }
             initializedConfig = configOptional.orElse(new Config());
         } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+            logger.warning(() -> "Config file at " + configFilePathUsed + " could not be loaded."
                     + " Using default config properties.");
             initializedConfig = new Config();
         }
@@ -131,7 +318,7 @@ public class MainApp extends Application {
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
         }
         return initializedConfig;
     }
@@ -143,17 +330,17 @@ public class MainApp extends Application {
      */
     protected UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
+        logger.info(() -> "Using preference file : " + prefsFilePath);
 
         UserPrefs initializedPrefs;
         try {
             Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
             if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
+                logger.info(() -> "Creating new preference file " + prefsFilePath);
             }
             initializedPrefs = prefsOptional.orElse(new UserPrefs());
         } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+            logger.warning(() -> "Preference file at " + prefsFilePath + " could not be loaded."
                     + " Using default preferences.");
             initializedPrefs = new UserPrefs();
         }
@@ -162,7 +349,7 @@ public class MainApp extends Application {
         try {
             storage.saveUserPrefs(initializedPrefs);
         } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+            logger.warning(() -> "Failed to save config file : " + StringUtil.getDetails(e));
         }
 
         return initializedPrefs;
@@ -170,17 +357,76 @@ public class MainApp extends Application {
 
     @Override
     public void start(Stage primaryStage) {
-        logger.info("Starting FINDvisor " + MainApp.VERSION);
-        ui.start(primaryStage);
+        logger.info(() -> "Starting FINDvisor " + MainApp.VERSION);
+        StartupTracer tracer = StartupTracer.get();
+        StartupTracer.Span firstFrameSpan = tracer.start("first frame");
+        try (StartupTracer.Span span = tracer.start("ui start")) {
+            ui.start(primaryStage);
+        }
+        if (progressiveLoadingStorage != null) {
+            startProgressiveLoading();
+        }
+
+        Scene scene = primaryStage.getScene();
+        if (scene == null) {
+            finishStartup();
+            return;
+        }
+        // Startup finishes when the first frame has been laid out, which is just before it is rendered
+        scene.addPostLayoutPulseListener(new Runnable() {
+            @Override
+            public void run() {
+                scene.removePostLayoutPulseListener(this);
+                firstFrameSpan.close();
+                finishStartup();
+            }
+        });
+    }
+
+    /**
+     * Stops tracing startup, and writes the startup report if one was requested.
+     */
+    private void finishStartup() {
+        StartupTracer tracer = StartupTracer.get();
+        tracer.finish();
+        if (startupReportPath == null) {
+            return;
+        }
+        try {
+            tracer.writeReport(startupReportPath);
+            logger.info(() -> "Wrote startup report to " + startupReportPath);
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to write startup report : " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping FINDvisor ] =============================");
+        try {
+            servicesFuture.join();
+        } catch (CompletionException e) {
+            logger.severe(() -> "Failed to initialize FINDvisor " + StringUtil.getDetails(e));
+            return;
+        }
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        if (liveReloadStorage != null) {
+            liveReloadStorage.stopWatching();
+        }
+        if (metricsDumper != null) {
+            metricsDumper.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+            logger.severe(() -> "Failed to save preferences " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.close();
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to close the data file " + StringUtil.getDetails(e));
         }
     }
 }
@@ -0,0 +1,67 @@
+package seedu.findvisor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.StringUtil;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.storage.JdbcAddressBookStorage;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+
+/**
+ * Imports an existing JSON data file into an embedded database file, replacing any data already in the database.
+ *
+ * Usage: {@code MigrateMain JSON_FILE DATABASE_FILE}
+ */
+public class MigrateMain {
+
+    public static final String USAGE = "Usage: MigrateMain JSON_FILE DATABASE_FILE";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Data file %1$s does not exist.";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d person(s) from %2$s into %3$s.";
+
+    private static final Logger logger = LogsCenter.getLogger(MigrateMain.class);
+
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println(USAGE);
+            System.exit(1);
+        }
+
+        Path jsonFilePath = Paths.get(args[0]);
+        Path databaseFilePath = Paths.get(args[1]);
+        try {
+            int personCount = migrate(jsonFilePath, databaseFilePath);
+            System.out.println(String.format(MESSAGE_SUCCESS, personCount, jsonFilePath,
+                    new JdbcAddressBookStorage(databaseFilePath).getAddressBookFilePath()));
+            System.exit(0);
+        } catch (DataLoadingException | IOException e) {
+            logger.severe(() -> "Migration failed: " + StringUtil.getDetails(e));
+            System.err.println("Migration failed: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Imports the address book in the JSON file at {@code jsonFilePath} into the database file at
+     * {@code databaseFilePath} and returns the number of persons imported.
+     *
+     * @throws DataLoadingException if the JSON file could not be loaded.
+     * @throws IOException if the JSON file does not exist, or the database could not be written.
+     */
+    public static int migrate(Path jsonFilePath, Path databaseFilePath) throws DataLoadingException, IOException {
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(jsonFilePath).readAddressBook()
+                .orElseThrow(() -> new IOException(String.format(MESSAGE_FILE_NOT_FOUND, jsonFilePath)));
+        JdbcAddressBookStorage databaseStorage = new JdbcAddressBookStorage(databaseFilePath);
+        try {
+            databaseStorage.saveAddressBook(addressBook);
+        } finally {
+            databaseStorage.close();
+        }
+        return addressBook.getPersonList().size();
+    }
+
+}
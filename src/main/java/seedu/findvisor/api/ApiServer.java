@@ -0,0 +1,340 @@
+package seedu.findvisor.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.util.FileUtil;
+import seedu.findvisor.commons.util.JsonUtil;
+import seedu.findvisor.commons.util.StringUtil;
+import seedu.findvisor.logic.Logic;
+import seedu.findvisor.logic.commands.CommandResult;
+import seedu.findvisor.logic.commands.exceptions.CommandException;
+import seedu.findvisor.logic.parser.exceptions.ParseException;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonTodayMeetingsPredicate;
+import seedu.findvisor.storage.JsonAdaptedPerson;
+
+/**
+ * A local HTTP server that exposes the address book as JSON to other tools on the same machine.
+ * The server only listens on the loopback address. As any web page open in a browser can also send requests to
+ * the loopback address, every request must carry the token that the server writes to a file only readable by the
+ * user at startup, in an {@code Authorization: Bearer} header. Requests from browsers, which have an {@code Origin}
+ * header, and requests for a host other than the loopback address are rejected.
+ *
+ * <ul>
+ *     <li>{@code GET /api/persons} returns all persons.</li>
+ *     <li>{@code GET /api/meetings/today} returns the persons with a meeting today.</li>
+ *     <li>{@code POST /api/commands} executes the command in the request body, as if typed into the command box.</li>
+ * </ul>
+ *
+ * Reads are served from the latest immutable snapshot of the address book,
+ * so they never wait for, or interfere with, the thread that modifies the address book.
+ * Commands are handed to the command executor given at construction, which should be the thread that owns the model.
+ * They change the model as commands typed into the command box do, including the filter of the person list shown.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/api/persons";
+    public static final String TODAYS_MEETINGS_PATH = "/api/meetings/today";
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final Path DEFAULT_TOKEN_FILE_PATH = Paths.get("api-token");
+    public static final String AUTHORIZATION_SCHEME = "Bearer ";
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_UNAUTHORIZED = 401;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_METHOD_NOT_ALLOWED = 405;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int HANDLER_THREAD_COUNT = 4;
+    private static final int TOKEN_BYTE_COUNT = 32;
+    private static final Set<String> LOOPBACK_HOST_NAMES = Set.of("localhost", "127.0.0.1", "[::1]");
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final HttpServer server;
+    private final ExecutorService handlerExecutor;
+    private final ReadOnlyAddressBook addressBook;
+    private final Path tokenFilePath;
+    private final byte[] token;
+
+    /**
+     * Creates an {@code ApiServer} over {@code logic} that will listen on the given loopback {@code port}.
+     * A port of 0 lets the system pick a free port, which can be retrieved with {@link #getPort()}.
+     * A new token is generated for the server, and written to {@code tokenFilePath} when the server starts.
+     *
+     * @param commandExecutor executes the commands received by the server, one at a time.
+     * @throws IOException if the port could not be bound.
+     */
+    public ApiServer(Logic logic, Executor commandExecutor, int port, Path tokenFilePath) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        requireNonNull(tokenFilePath);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.addressBook = logic.getAddressBook();
+        this.tokenFilePath = tokenFilePath;
+        this.token = generateToken().getBytes(StandardCharsets.US_ASCII);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(PERSONS_PATH, checked(this::handlePersons));
+        server.createContext(TODAYS_MEETINGS_PATH, checked(this::handleTodaysMeetings));
+        server.createContext(COMMANDS_PATH, checked(this::handleCommand));
+        handlerExecutor = Executors.newFixedThreadPool(HANDLER_THREAD_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "api-server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(handlerExecutor);
+    }
+
+    /**
+     * Writes the token to the token file, readable only by the user, and starts accepting requests.
+     *
+     * @throws IOException if the token file could not be written, in which case the server is not started.
+     */
+    public void start() throws IOException {
+        writeTokenFile(tokenFilePath, new String(token, StandardCharsets.US_ASCII));
+        server.start();
+        logger.info(() -> "API server listening on " + server.getAddress() + ", token written to " + tokenFilePath);
+    }
+
+    /**
+     * Stops accepting requests, releases the port and deletes the token file.
+     */
+    public void stop() {
+        server.stop(0);
+        handlerExecutor.shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFilePath);
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to delete API token file " + tokenFilePath + " : " + StringUtil.getDetails(e));
+        }
+        logger.info("API server stopped");
+    }
+
+    /**
+     * Returns the port that the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    private static String generateToken() {
+        byte[] tokenBytes = new byte[TOKEN_BYTE_COUNT];
+        new SecureRandom().nextBytes(tokenBytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+    }
+
+    /**
+     * Writes {@code token} to a new file at {@code tokenFilePath} that only the user can read and write.
+     */
+    private static void writeTokenFile(Path tokenFilePath, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(tokenFilePath);
+        // A file left behind by an earlier session may have been created by someone else with other permissions
+        Files.deleteIfExists(tokenFilePath);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(tokenFilePath, PosixFilePermissions.asFileAttribute(
+                    EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+        } else {
+            Files.createFile(tokenFilePath);
+            File tokenFile = tokenFilePath.toFile();
+            boolean isRestricted = tokenFile.setReadable(false, false) && tokenFile.setReadable(true, true)
+                    && tokenFile.setWritable(false, false) && tokenFile.setWritable(true, true);
+            if (!isRestricted) {
+                logger.warning(() -> "Could not restrict the permissions of API token file " + tokenFilePath);
+            }
+        }
+        FileUtil.writeToFile(tokenFilePath, token);
+    }
+
+    /**
+     * Returns a handler that rejects requests that do not come from a tool on this machine with the token, and passes
+     * the other requests to {@code handler}.
+     */
+    private HttpHandler checked(HttpHandler handler) {
+        return exchange -> {
+            int rejectionStatus = getRejectionStatus(exchange);
+            if (rejectionStatus == HTTP_OK) {
+                handler.handle(exchange);
+                return;
+            }
+            try {
+                logger.warning(() -> "API request to " + exchange.getRequestURI() + " rejected with status "
+                        + rejectionStatus);
+                reject(exchange, rejectionStatus);
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    /**
+     * Returns the status to reject the request with, or {@code HTTP_OK} if it may be handled.
+     */
+    private int getRejectionStatus(HttpExchange exchange) {
+        // Browsers send an Origin header with every cross-site request, while other tools do not need to
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            return HTTP_FORBIDDEN;
+        }
+        // A web page can reach the server under its own host name by rebinding that name to the loopback address
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !LOOPBACK_HOST_NAMES.contains(getHostName(host))) {
+            return HTTP_FORBIDDEN;
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(AUTHORIZATION_SCHEME)
+                || !MessageDigest.isEqual(token, authorization.substring(AUTHORIZATION_SCHEME.length())
+                        .getBytes(StandardCharsets.US_ASCII))) {
+            return HTTP_UNAUTHORIZED;
+        }
+        return HTTP_OK;
+    }
+
+    /**
+     * Returns the host name in the value of a {@code Host} header, without the port, in lower case.
+     */
+    private static String getHostName(String host) {
+        int portStart = host.startsWith("[") ? host.indexOf(':', host.indexOf(']')) : host.indexOf(':');
+        return (portStart < 0 ? host : host.substring(0, portStart)).toLowerCase(Locale.ROOT);
+    }
+
+    private void handlePersons(HttpExchange exchange) throws IOException {
+        handleRead(exchange, () -> addressBook.getSnapshot().getPersons());
+    }
+
+    private void handleTodaysMeetings(HttpExchange exchange) throws IOException {
+        PersonTodayMeetingsPredicate isMeetingToday = new PersonTodayMeetingsPredicate();
+        handleRead(exchange, () -> addressBook.getSnapshot().getPersons().stream()
+                .filter(isMeetingToday)
+                .collect(Collectors.toList()));
+    }
+
+    private void handleRead(HttpExchange exchange, Supplier<List<Person>> persons) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            List<JsonAdaptedPerson> adaptedPersons = persons.get().stream()
+                    .map(JsonAdaptedPerson::new)
+                    .collect(Collectors.toList());
+            sendResponse(exchange, HTTP_OK, JsonUtil.toJsonString(adaptedPersons));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCommand(HttpExchange exchange) throws IOException {
+        try {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                sendMethodNotAllowed(exchange);
+                return;
+            }
+
+            String commandText;
+            try (InputStream requestBody = exchange.getRequestBody()) {
+                commandText = new String(requestBody.readAllBytes(), StandardCharsets.UTF_8).trim();
+            }
+            logger.info(() -> "API command: " + commandText);
+
+            CommandResponse response;
+            try {
+                response = CompletableFuture.supplyAsync(() -> execute(commandText), commandExecutor).join();
+            } catch (CompletionException e) {
+                logger.warning(() -> "API command failed unexpectedly: " + StringUtil.getDetails(e.getCause()));
+                sendResponse(exchange, HTTP_INTERNAL_ERROR, "");
+                return;
+            }
+            sendResponse(exchange, response.success ? HTTP_OK : HTTP_BAD_REQUEST, JsonUtil.toJsonString(response));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private CommandResponse execute(String commandText) {
+        try {
+            CommandResult commandResult = logic.execute(commandText);
+            return new CommandResponse(true, commandResult.getFeedbackToUser());
+        } catch (CommandException | ParseException e) {
+            return new CommandResponse(false, e.getMessage());
+        }
+    }
+
+    private static void sendMethodNotAllowed(HttpExchange exchange) throws IOException {
+        reject(exchange, HTTP_METHOD_NOT_ALLOWED);
+    }
+
+    /**
+     * Rejects a request with {@code statusCode} and no body. The request body is drained first,
+     * as the connection cannot be reused for the next request otherwise.
+     */
+    private static void reject(HttpExchange exchange, int statusCode) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            requestBody.transferTo(OutputStream.nullOutputStream());
+        }
+        sendResponse(exchange, statusCode, "");
+    }
+
+    private static void sendResponse(HttpExchange exchange, int statusCode, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(statusCode, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            try (OutputStream responseBody = exchange.getResponseBody()) {
+                responseBody.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Jackson-friendly result of a command sent to the server.
+     */
+    private static class CommandResponse {
+        private final boolean success;
+        private final String feedback;
+
+        CommandResponse(boolean success, String feedback) {
+            this.success = success;
+            this.feedback = feedback;
+        }
+    }
+
+}
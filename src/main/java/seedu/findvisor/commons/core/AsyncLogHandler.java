@@ -0,0 +1,166 @@
+package seedu.findvisor.commons.core;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a background thread, so that logging never
+ * waits for the console or a log file to be written.
+ * Records wait in a fixed-size ring buffer. If records are logged faster than they can be written and the buffer
+ * is full, the oldest record is dropped, and the number of dropped records is logged once the buffer is drained.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    public static final String MESSAGE_RECORDS_DROPPED = "Dropped %d log record(s) as the log buffer was full";
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 2000;
+
+    private final List<Handler> handlers;
+    private final LogRecord[] buffer;
+    private final Thread writerThread;
+
+    // Guarded by this handler's lock
+    private int head;
+    private int count;
+    private long droppedCount;
+    private boolean isWriting;
+    private boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes log records on to {@code handlers}, buffering at most
+     * {@code capacity} records.
+     */
+    public AsyncLogHandler(List<Handler> handlers, int capacity) {
+        requireNonNull(handlers);
+        checkArgument(capacity > 0, "Capacity must be positive");
+        this.handlers = List.copyOf(handlers);
+        this.buffer = new LogRecord[capacity];
+        setLevel(Level.ALL);
+
+        writerThread = new Thread(this::writeRecords, "log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+
+        // The source is found from the stack of the logging thread, so it must be found before the record is handed
+        // to the writer thread
+        record.getSourceClassName();
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            if (count == buffer.length) {
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                count--;
+                droppedCount++;
+            }
+            buffer[(head + count) % buffer.length] = record;
+            count++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Passes buffered records on to the handlers until this handler is closed and the buffer is drained.
+     */
+    private void writeRecords() {
+        while (true) {
+            List<LogRecord> records = new ArrayList<>();
+            synchronized (this) {
+                while (count == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        // keep waiting, the thread stops only when the handler is closed
+                    }
+                }
+                if (count == 0) {
+                    return;
+                }
+
+                if (droppedCount > 0) {
+                    records.add(new LogRecord(Level.WARNING, String.format(MESSAGE_RECORDS_DROPPED, droppedCount)));
+                    droppedCount = 0;
+                }
+                while (count > 0) {
+                    records.add(buffer[head]);
+                    buffer[head] = null;
+                    head = (head + 1) % buffer.length;
+                    count--;
+                }
+                isWriting = true;
+            }
+
+            for (LogRecord record : records) {
+                for (Handler handler : handlers) {
+                    try {
+                        handler.publish(record);
+                    } catch (RuntimeException e) {
+                        reportError(null, e, ErrorManager.WRITE_FAILURE);
+                    }
+                }
+            }
+
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Waits for the buffered records to be passed on, then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            while ((count > 0 || isWriting) && writerThread.isAlive()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        handlers.forEach(Handler::flush);
+    }
+
+    /**
+     * Passes the buffered records on, then closes the handlers. Records published afterwards are discarded.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+
+        try {
+            writerThread.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+}
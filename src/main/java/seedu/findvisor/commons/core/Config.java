@@ -17,6 +17,13 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean apiServerEnabled = false;
+    private int apiServerPort = 8080;
+    private Path metricsFilePath = Paths.get("metrics.json");
+    // The metrics file is not written if the interval is 0
+    private int metricsDumpIntervalSeconds = 0;
+    // If enabled, the main window is shown before the address book is loaded, and persons appear as they are read
+    private boolean progressiveLoadingEnabled = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +41,46 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public boolean isApiServerEnabled() {
+        return apiServerEnabled;
+    }
+
+    public void setApiServerEnabled(boolean apiServerEnabled) {
+        this.apiServerEnabled = apiServerEnabled;
+    }
+
+    public int getApiServerPort() {
+        return apiServerPort;
+    }
+
+    public void setApiServerPort(int apiServerPort) {
+        this.apiServerPort = apiServerPort;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    public int getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(int metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
+    public boolean isProgressiveLoadingEnabled() {
+        return progressiveLoadingEnabled;
+    }
+
+    public void setProgressiveLoadingEnabled(boolean progressiveLoadingEnabled) {
+        this.progressiveLoadingEnabled = progressiveLoadingEnabled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +94,18 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && apiServerEnabled == otherConfig.apiServerEnabled
+                && apiServerPort == otherConfig.apiServerPort
+                && Objects.equals(metricsFilePath, otherConfig.metricsFilePath)
+                && metricsDumpIntervalSeconds == otherConfig.metricsDumpIntervalSeconds
+                && progressiveLoadingEnabled == otherConfig.progressiveLoadingEnabled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, apiServerEnabled, apiServerPort, metricsFilePath,
+                metricsDumpIntervalSeconds, progressiveLoadingEnabled);
     }
 
     @Override
@@ -60,6 +113,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("apiServerEnabled", apiServerEnabled)
+                .add("apiServerPort", apiServerPort)
+                .add("metricsFilePath", metricsFilePath)
+                .add("metricsDumpIntervalSeconds", metricsDumpIntervalSeconds)
+                .add("progressiveLoadingEnabled", progressiveLoadingEnabled)
                 .toString();
     }
 
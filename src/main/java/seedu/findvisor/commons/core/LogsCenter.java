@@ -3,9 +3,12 @@ package seedu.findvisor.commons.core;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
@@ -16,6 +19,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Log records are written to the console and the file on a background thread by an {@link AsyncLogHandler},
+ *   so that logging does not slow down the thread that logs.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -37,7 +42,7 @@ public class LogsCenter {
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("Log level will be set as: " + currentLogLevel);
+        logger.info(() -> "Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
     }
@@ -75,8 +80,9 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler}
+     * and a {@code FileHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other
+     * loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -85,20 +91,29 @@ public class LogsCenter {
 
         // Level.ALL is used as the level for the handlers because the baseLogger filters the log messages by level
         // already; there is no need to control log message level of the handlers.
+        List<Handler> handlers = new ArrayList<>();
 
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
+        handlers.add(consoleHandler);
 
         // add a FileHandler to log to a file
+        boolean isFileHandlerAdded = false;
         try {
             FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            handlers.add(fileHandler);
+            isFileHandlerAdded = true;
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            // logged below, once the handlers are in place
+        }
+
+        // The handler is closed, writing out the records still buffered, when the LogManager is reset at shutdown
+        baseLogger.addHandler(new AsyncLogHandler(handlers, AsyncLogHandler.DEFAULT_CAPACITY));
+        if (!isFileHandlerAdded) {
+            baseLogger.warning("Error adding file handler for logger.");
         }
     }
 
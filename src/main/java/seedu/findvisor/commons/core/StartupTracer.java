@@ -0,0 +1,179 @@
+package seedu.findvisor.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.util.JsonUtil;
+
+/**
+ * Records how long each phase of starting the application takes, on whichever thread the phase runs.
+ * Each phase is logged when it ends. When startup has finished, a structured report of all the phases can be
+ * written as a JSON file, so that cold-start times can be compared between versions.
+ * Phases that end after startup has finished, such as data files being reloaded later, are not recorded.
+ */
+public class StartupTracer {
+
+    private static final Logger logger = LogsCenter.getLogger(StartupTracer.class);
+
+    private static final StartupTracer instance = new StartupTracer();
+
+    private final long startTime = System.nanoTime();
+    // How long the JVM had been running when this tracer was created, which is not part of any phase
+    private final long jvmUptimeMillisAtStart = ManagementFactory.getRuntimeMXBean().getUptime();
+    private final List<Phase> phases = new ArrayList<>();
+    private boolean isFinished = false;
+    private long finishTime;
+
+    /**
+     * Returns the tracer of the startup of this application.
+     */
+    public static StartupTracer get() {
+        return instance;
+    }
+
+    /**
+     * Starts timing the phase named {@code name}, which is recorded when the returned {@code Span} is closed.
+     */
+    public Span start(String name) {
+        requireNonNull(name);
+        return new Span(name, System.nanoTime());
+    }
+
+    /**
+     * Records that the phase named {@code name} started at {@code phaseStartTime} and took {@code durationNanos}
+     * nanoseconds. Used for phases whose time is the sum of many short intervals.
+     *
+     * @param phaseStartTime a time given by {@link System#nanoTime()}.
+     */
+    public synchronized void record(String name, long phaseStartTime, long durationNanos) {
+        requireNonNull(name);
+        if (isFinished) {
+            return;
+        }
+        Phase phase = new Phase(name, Thread.currentThread().getName(), phaseStartTime - startTime, durationNanos);
+        phases.add(phase);
+        logger.info(() -> "Startup phase [" + name + "] took " + TimeUnit.NANOSECONDS.toMillis(durationNanos)
+                + " ms");
+    }
+
+    /**
+     * Stops recording phases, and logs the total time that startup took.
+     */
+    public synchronized void finish() {
+        if (isFinished) {
+            return;
+        }
+        isFinished = true;
+        finishTime = System.nanoTime();
+        logger.info(() -> "Startup took " + TimeUnit.NANOSECONDS.toMillis(finishTime - startTime) + " ms, after "
+                + jvmUptimeMillisAtStart + " ms of JVM startup");
+    }
+
+    /**
+     * Returns the recorded phases, in the order that they ended.
+     */
+    public synchronized List<Phase> getPhases() {
+        return new ArrayList<>(phases);
+    }
+
+    /**
+     * Writes a report of the recorded phases to the JSON file at {@code filePath}.
+     * Times are in milliseconds, and the start of each phase is relative to the creation of this tracer.
+     */
+    public void writeReport(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        JsonUtil.saveJsonFile(toJson(), filePath);
+    }
+
+    /**
+     * Returns the report of the recorded phases as nested maps that are written as JSON objects.
+     */
+    synchronized Map<String, Object> toJson() {
+        List<Map<String, Object>> phasesJson = new ArrayList<>();
+        for (Phase phase : phases) {
+            Map<String, Object> phaseJson = new LinkedHashMap<>();
+            phaseJson.put("name", phase.getName());
+            phaseJson.put("thread", phase.getThreadName());
+            phaseJson.put("startMillis", toMillis(phase.getStartOffsetNanos()));
+            phaseJson.put("durationMillis", toMillis(phase.getDurationNanos()));
+            phasesJson.add(phaseJson);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("jvmUptimeMillisAtStart", jvmUptimeMillisAtStart);
+        json.put("totalMillis", isFinished ? toMillis(finishTime - startTime) : null);
+        json.put("phases", phasesJson);
+        return json;
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * A phase of startup that is being timed.
+     */
+    public class Span implements AutoCloseable {
+        private final String name;
+        private final long spanStartTime;
+
+        private Span(String name, long spanStartTime) {
+            this.name = name;
+            this.spanStartTime = spanStartTime;
+        }
+
+        /**
+         * Records the phase as having ended now.
+         */
+        @Override
+        public void close() {
+            record(name, spanStartTime, System.nanoTime() - spanStartTime);
+        }
+    }
+
+    /**
+     * A recorded phase of startup.
+     */
+    public static class Phase {
+        private final String name;
+        private final String threadName;
+        private final long startOffsetNanos;
+        private final long durationNanos;
+
+        Phase(String name, String threadName, long startOffsetNanos, long durationNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startOffsetNanos = startOffsetNanos;
+            this.durationNanos = durationNanos;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Returns how long after the creation of the tracer this phase started.
+         */
+        public long getStartOffsetNanos() {
+            return startOffsetNanos;
+        }
+
+        public long getDurationNanos() {
+            return durationNanos;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package seedu.findvisor.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Metrics of the commands run in this session, by command word: the time taken by each phase of a command,
+ * the number of persons scanned by the predicates of the model and the memory allocated by the command.
+ * All methods can be called by several threads at once.
+ */
+public class CommandMetrics {
+
+    /**
+     * A phase of running a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE
+    }
+
+    private static final CommandStats EMPTY_STATS = new CommandStats();
+
+    // Null if the JVM cannot measure the memory allocated by a thread
+    private static final ThreadMXBean threadBean = getThreadBean();
+
+    private final Map<String, CommandStats> statsByCommandWord = new ConcurrentHashMap<>();
+    private final LongAdder personsScanned = new LongAdder();
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void recordDuration(String commandWord, Phase phase, long nanos) {
+        requireNonNull(phase);
+        getOrCreateStats(commandWord).histograms.get(phase).record(nanos);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} scanned {@code count} persons.
+     */
+    public void recordPersonsScanned(String commandWord, long count) {
+        getOrCreateStats(commandWord).personsScanned.add(count);
+    }
+
+    /**
+     * Records that a command with {@code commandWord} allocated {@code bytes} bytes of memory.
+     */
+    public void recordAllocatedBytes(String commandWord, long bytes) {
+        getOrCreateStats(commandWord).allocatedBytes.add(bytes);
+    }
+
+    private CommandStats getOrCreateStats(String commandWord) {
+        requireNonNull(commandWord);
+        return statsByCommandWord.computeIfAbsent(commandWord, word -> new CommandStats());
+    }
+
+    /**
+     * Returns the metrics of the commands with {@code commandWord}, which are empty if none were recorded.
+     */
+    private CommandStats getStats(String commandWord) {
+        requireNonNull(commandWord);
+        return statsByCommandWord.getOrDefault(commandWord, EMPTY_STATS);
+    }
+
+    /**
+     * Counts a person scanned by a predicate, whichever command it was scanned for.
+     */
+    public void countPersonScanned() {
+        personsScanned.increment();
+    }
+
+    /**
+     * Returns the number of persons scanned by predicates so far.
+     */
+    public long getTotalPersonsScanned() {
+        return personsScanned.sum();
+    }
+
+    private static ThreadMXBean getThreadBean() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+            return bean != null && bean.isThreadAllocatedMemorySupported() ? bean : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, if the JVM can measure it.
+     */
+    public static Optional<Long> getCurrentThreadAllocatedBytes() {
+        if (threadBean == null || !threadBean.isThreadAllocatedMemoryEnabled()) {
+            return Optional.empty();
+        }
+        return Optional.of(threadBean.getThreadAllocatedBytes(Thread.currentThread().getId()));
+    }
+
+    /**
+     * Returns the command words with recorded metrics, in alphabetical order.
+     */
+    public SortedSet<String> getCommandWords() {
+        return Collections.unmodifiableSortedSet(new TreeSet<>(statsByCommandWord.keySet()));
+    }
+
+    /**
+     * Returns the histogram of the durations of {@code phase} of the commands with {@code commandWord}.
+     */
+    public LatencyHistogram getHistogram(String commandWord, Phase phase) {
+        requireNonNull(phase);
+        return getStats(commandWord).histograms.get(phase);
+    }
+
+    /**
+     * Returns the number of persons scanned by the commands with {@code commandWord}.
+     */
+    public long getPersonsScanned(String commandWord) {
+        return getStats(commandWord).personsScanned.sum();
+    }
+
+    /**
+     * Returns the number of bytes allocated by the commands with {@code commandWord}.
+     */
+    public long getAllocatedBytes(String commandWord) {
+        return getStats(commandWord).allocatedBytes.sum();
+    }
+
+    /**
+     * The metrics of the commands with one command word.
+     */
+    private static class CommandStats {
+        private final Map<Phase, LatencyHistogram> histograms = new EnumMap<>(Phase.class);
+        private final LongAdder personsScanned = new LongAdder();
+        private final LongAdder allocatedBytes = new LongAdder();
+
+        CommandStats() {
+            for (Phase phase : Phase.values()) {
+                histograms.put(phase, new LatencyHistogram());
+            }
+        }
+    }
+
+}
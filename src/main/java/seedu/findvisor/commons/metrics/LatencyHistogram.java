@@ -0,0 +1,113 @@
+package seedu.findvisor.commons.metrics;
+
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of durations in nanoseconds that can be recorded to by several threads at once without locking.
+ * Durations are counted in buckets whose width grows with the duration, as in HdrHistogram: every power of two is
+ * split into {@code SUB_BUCKET_COUNT} equal buckets, so a percentile is accurate to within 12.5% of its value
+ * whatever the scale of the durations, while the histogram takes a fixed few kilobytes.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Durations below SUB_BUCKET_COUNT have a bucket each, then each power of two up to 2^62 has SUB_BUCKET_COUNT
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - 1 - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records a duration of {@code nanos} nanoseconds. Negative durations are recorded as zero.
+     */
+    public void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        counts.incrementAndGet(getBucket(duration));
+        totalCount.incrementAndGet();
+        totalNanos.addAndGet(duration);
+        maxNanos.accumulateAndGet(duration, Math::max);
+    }
+
+    /**
+     * Returns the bucket that {@code nanos} is counted in.
+     */
+    static int getBucket(long nanos) {
+        if (nanos < SUB_BUCKET_COUNT) {
+            return (int) nanos;
+        }
+        int magnitude = Long.SIZE - 1 - Long.numberOfLeadingZeros(nanos);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (nanos >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest duration counted in {@code bucket}.
+     */
+    static long getBucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = (bucket - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        long subBucket = (bucket - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the mean of the recorded durations, or 0 if none were recorded.
+     */
+    public long getMeanNanos() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : totalNanos.get() / count;
+    }
+
+    /**
+     * Returns an upper bound of the duration below which {@code percentile} percent of the recorded durations fall,
+     * or 0 if none were recorded.
+     *
+     * @param percentile a number between 0 and 100, inclusive.
+     */
+    public long getNanosAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long targetCount = Math.max(1, (long) Math.ceil(count * percentile / 100));
+        long cumulativeCount = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulativeCount += counts.get(i);
+            if (cumulativeCount >= targetCount) {
+                return Math.min(getBucketUpperBound(i), maxNanos.get());
+            }
+        }
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns {@code nanos} in milliseconds, with fractions of a millisecond.
+     */
+    public static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+}
@@ -0,0 +1,120 @@
+package seedu.findvisor.commons.metrics;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.metrics.CommandMetrics.Phase;
+import seedu.findvisor.commons.util.JsonUtil;
+import seedu.findvisor.commons.util.StringUtil;
+
+/**
+ * Periodically writes {@code CommandMetrics} to a JSON file on a background thread, so that the metrics of a
+ * session can be inspected by other tools while the app runs and after it stops.
+ */
+public class MetricsDumper {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsDumper.class);
+
+    private static final double[] PERCENTILES = {50, 90, 99};
+
+    private final CommandMetrics metrics;
+    private final Path filePath;
+    private ScheduledExecutorService executor;
+
+    /**
+     * Creates a {@code MetricsDumper} that writes {@code metrics} to the file at {@code filePath}.
+     */
+    public MetricsDumper(CommandMetrics metrics, Path filePath) {
+        requireNonNull(metrics);
+        requireNonNull(filePath);
+        this.metrics = metrics;
+        this.filePath = filePath;
+    }
+
+    /**
+     * Starts writing the metrics file every {@code intervalSeconds} seconds.
+     */
+    public void start(long intervalSeconds) {
+        checkArgument(intervalSeconds > 0, "Interval must be positive");
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-dumper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::dumpQuietly, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+        logger.info(() -> "Writing metrics to " + filePath + " every " + intervalSeconds + " s");
+    }
+
+    /**
+     * Stops writing the metrics file periodically, and writes it one last time.
+     */
+    public void stop() {
+        if (executor == null) {
+            return;
+        }
+
+        executor.shutdownNow();
+        executor = null;
+        dumpQuietly();
+    }
+
+    private void dumpQuietly() {
+        try {
+            dump();
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to write metrics file " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Writes the current metrics to the metrics file.
+     */
+    public void dump() throws IOException {
+        JsonUtil.saveJsonFile(toJson(metrics), filePath);
+    }
+
+    /**
+     * Returns {@code metrics} as nested maps that are written as JSON objects, with durations in microseconds.
+     */
+    static Map<String, Object> toJson(CommandMetrics metrics) {
+        Map<String, Object> commands = new LinkedHashMap<>();
+        for (String commandWord : metrics.getCommandWords()) {
+            Map<String, Object> command = new LinkedHashMap<>();
+            command.put("count", metrics.getHistogram(commandWord, Phase.EXECUTE).getCount());
+            command.put("personsScanned", metrics.getPersonsScanned(commandWord));
+            command.put("allocatedBytes", metrics.getAllocatedBytes(commandWord));
+            for (Phase phase : Phase.values()) {
+                command.put(phase.name().toLowerCase(), toJson(metrics.getHistogram(commandWord, phase)));
+            }
+            commands.put(commandWord, command);
+        }
+
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("personsScanned", metrics.getTotalPersonsScanned());
+        json.put("commands", commands);
+        return json;
+    }
+
+    private static Map<String, Object> toJson(LatencyHistogram histogram) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("count", histogram.getCount());
+        json.put("meanMicros", TimeUnit.NANOSECONDS.toMicros(histogram.getMeanNanos()));
+        for (double percentile : PERCENTILES) {
+            json.put("p" + (int) percentile + "Micros",
+                    TimeUnit.NANOSECONDS.toMicros(histogram.getNanosAtPercentile(percentile)));
+        }
+        json.put("maxMicros", TimeUnit.NANOSECONDS.toMicros(histogram.getMaxNanos()));
+        return json;
+    }
+
+}
@@ -0,0 +1,163 @@
+package seedu.findvisor.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * An immutable list whose elements are stored in chunks of up to {@link #CHUNK_SIZE} elements.
+ * A copy of the list with some elements replaced is made with {@link #withReplaced(int, int, List)}, which only
+ * copies the chunks that change, and shares the other chunks with this list. A change to a few elements of a list
+ * of n elements therefore takes time in proportion to n / {@code CHUNK_SIZE} + {@code CHUNK_SIZE} instead of n,
+ * so that a copy can be published after every change for other threads to read without locking.
+ */
+public final class ChunkedList<E> extends AbstractList<E> implements RandomAccess {
+
+    /** Maximum number of elements in a chunk. */
+    static final int CHUNK_SIZE = 1024;
+
+    private static final ChunkedList<?> EMPTY = new ChunkedList<>(new Object[0][], new int[0]);
+
+    private final Object[][] chunks;
+    // chunkEnds[i] is the index after the last element of chunks[i]
+    private final int[] chunkEnds;
+
+    private ChunkedList(Object[][] chunks, int[] chunkEnds) {
+        this.chunks = chunks;
+        this.chunkEnds = chunkEnds;
+    }
+
+    /**
+     * Returns an empty {@code ChunkedList}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ChunkedList<E> empty() {
+        return (ChunkedList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a {@code ChunkedList} of the elements of {@code elements}, in order.
+     */
+    public static <E> ChunkedList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return ChunkedList.<E>empty().withReplaced(0, 0, elements);
+    }
+
+    /**
+     * Returns a copy of this list with the {@code removedCount} elements from {@code from} replaced with
+     * {@code added}.
+     *
+     * @throws IndexOutOfBoundsException if the elements to remove are not all in this list.
+     */
+    public ChunkedList<E> withReplaced(int from, int removedCount, List<? extends E> added) {
+        requireNonNull(added);
+        int size = size();
+        if (from < 0 || removedCount < 0 || from > size - removedCount) {
+            throw new IndexOutOfBoundsException("Cannot remove " + removedCount + " element(s) from index " + from
+                    + " of a list of size " + size);
+        }
+        if (removedCount == 0 && added.isEmpty()) {
+            return this;
+        }
+
+        // The chunks from firstChunk up to endChunk are replaced. Elements added at the end fill the last chunk.
+        int firstChunk = from < size ? getChunk(from) : Math.max(chunks.length - 1, 0);
+        int endChunk = removedCount > 0
+                ? getChunk(from + removedCount - 1) + 1
+                : Math.min(firstChunk + 1, chunks.length);
+        int firstChunkStart = getChunkStart(firstChunk);
+        int endChunkStart = getChunkStart(endChunk);
+
+        // The elements of the replaced chunks that are kept, with the added elements between them
+        int keptBeforeCount = from - firstChunkStart;
+        int keptAfterCount = endChunkStart - from - removedCount;
+        Object[] replacingElements = new Object[keptBeforeCount + added.size() + keptAfterCount];
+        if (keptBeforeCount > 0) {
+            System.arraycopy(chunks[firstChunk], 0, replacingElements, 0, keptBeforeCount);
+        }
+        Object[] addedElements = added.toArray();
+        System.arraycopy(addedElements, 0, replacingElements, keptBeforeCount, addedElements.length);
+        if (keptAfterCount > 0) {
+            Object[] lastChunk = chunks[endChunk - 1];
+            System.arraycopy(lastChunk, lastChunk.length - keptAfterCount, replacingElements,
+                    keptBeforeCount + addedElements.length, keptAfterCount);
+        }
+
+        int replacingChunkCount = (replacingElements.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        Object[][] newChunks = new Object[firstChunk + replacingChunkCount + chunks.length - endChunk][];
+        System.arraycopy(chunks, 0, newChunks, 0, firstChunk);
+        for (int i = 0; i < replacingChunkCount; i++) {
+            newChunks[firstChunk + i] = Arrays.copyOfRange(replacingElements, i * CHUNK_SIZE,
+                    Math.min((i + 1) * CHUNK_SIZE, replacingElements.length));
+        }
+        System.arraycopy(chunks, endChunk, newChunks, firstChunk + replacingChunkCount, chunks.length - endChunk);
+
+        ChunkedList<E> replaced = new ChunkedList<>(newChunks, getChunkEnds(newChunks));
+        // Removals can leave many small chunks, which are merged once there are twice as many as needed
+        if (newChunks.length > 2 * ((replaced.size() + CHUNK_SIZE - 1) / CHUNK_SIZE) + 1) {
+            return of(replaced);
+        }
+        return replaced;
+    }
+
+    private static int[] getChunkEnds(Object[][] chunks) {
+        int[] chunkEnds = new int[chunks.length];
+        int end = 0;
+        for (int i = 0; i < chunks.length; i++) {
+            end += chunks[i].length;
+            chunkEnds[i] = end;
+        }
+        return chunkEnds;
+    }
+
+    /**
+     * Returns the chunk that holds the element at {@code index}, which must be in this list.
+     */
+    private int getChunk(int index) {
+        int low = 0;
+        int high = chunkEnds.length - 1;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (chunkEnds[middle] > index) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first element of {@code chunk}, or the size of this list if there is no such chunk.
+     */
+    private int getChunkStart(int chunk) {
+        return chunk == 0 ? 0 : chunkEnds[chunk - 1];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        int chunk = getChunk(index);
+        return (E) chunks[chunk][index - getChunkStart(chunk)];
+    }
+
+    @Override
+    public int size() {
+        return chunkEnds.length == 0 ? 0 : chunkEnds[chunkEnds.length - 1];
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] elements = new Object[size()];
+        for (int i = 0; i < chunks.length; i++) {
+            System.arraycopy(chunks[i], 0, elements, getChunkStart(i), chunks[i].length);
+        }
+        return elements;
+    }
+
+}
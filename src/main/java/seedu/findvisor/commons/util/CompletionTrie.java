@@ -0,0 +1,298 @@
+package seedu.findvisor.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A compressed prefix trie of strings that finds the strings starting with a given prefix, ignoring case.
+ * Each edge of the trie is labelled with a run of characters instead of a single character, so that a string that
+ * shares no prefix with the others takes a single node. Labels are ranges of the added strings, so no strings are
+ * created when a string is added. <br>
+ * A string can be added more than once, and is kept until it has been removed as many times. Strings that differ
+ * only in case are treated as the same string, which is given in the case it was first added in.
+ */
+public class CompletionTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final Node root = new Node("", 0, 0);
+    private int size;
+
+    /**
+     * Returns the number of different strings in this trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if {@code string} has been added to this trie, ignoring case, more times than it was removed.
+     */
+    public boolean contains(String string) {
+        requireNonNull(string);
+        Node node = findNode(string);
+        return node != null && node.end == string.length() && node.value != null;
+    }
+
+    /**
+     * Adds {@code string} to this trie.
+     */
+    public void add(String string) {
+        requireNonNull(string);
+        Node node = root;
+        int position = 0;
+        while (position < string.length()) {
+            int childIndex = node.indexOfChild(string.charAt(position));
+            if (childIndex < 0) {
+                node.insertChild(-childIndex - 1, new Node(string, position, string.length()));
+                node = node.children[-childIndex - 1];
+                break;
+            }
+
+            Node child = node.children[childIndex];
+            int matchLength = child.matchLength(string, position);
+            if (matchLength < child.end - child.start) {
+                child.split(child.start + matchLength);
+            }
+            node = child;
+            position += matchLength;
+        }
+
+        if (node.count == 0) {
+            node.value = string;
+            size++;
+        }
+        node.count++;
+    }
+
+    /**
+     * Removes {@code string} from this trie once.
+     * {@code string} must have been added to this trie, ignoring case, more times than it was removed.
+     */
+    public void remove(String string) {
+        requireNonNull(string);
+        Node parent = null;
+        Node node = root;
+        int position = 0;
+        while (position < string.length()) {
+            int childIndex = node.indexOfChild(string.charAt(position));
+            checkArgument(childIndex >= 0, "String is not in the trie: " + string);
+            parent = node;
+            node = node.children[childIndex];
+            checkArgument(node.matchLength(string, position) == node.end - node.start,
+                    "String is not in the trie: " + string);
+            position = node.end;
+        }
+        checkArgument(node.count > 0, "String is not in the trie: " + string);
+
+        node.count--;
+        if (node.count > 0) {
+            return;
+        }
+        node.value = null;
+        size--;
+        if (node == root) {
+            return;
+        }
+
+        // Nodes that mark no string must have at least two children, or the trie would not stay compressed
+        if (node.children.length == 0) {
+            parent.removeChild(node);
+            if (parent != root && parent.count == 0 && parent.children.length == 1) {
+                parent.mergeWithOnlyChild();
+            }
+        } else if (node.children.length == 1) {
+            node.mergeWithOnlyChild();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} strings in this trie that start with {@code prefix}, ignoring case,
+     * in case-insensitive alphabetical order.
+     */
+    public List<String> getCompletions(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit >= 0, "Limit must not be negative");
+        List<String> completions = new ArrayList<>();
+        Node node = findNode(prefix);
+        if (node != null) {
+            collectValues(node, completions, limit);
+        }
+        return completions;
+    }
+
+    /**
+     * Returns the longest string that every string in this trie starting with {@code prefix} starts with, ignoring
+     * case, in the case of one of those strings. Returns an empty {@code Optional} if no string starts with
+     * {@code prefix}.
+     */
+    public Optional<String> getCommonCompletion(String prefix) {
+        requireNonNull(prefix);
+        Node node = findNode(prefix);
+        if (node == null || (node == root && size == 0)) {
+            return Optional.empty();
+        }
+
+        while (node.value == null && node.children.length == 1) {
+            node = node.children[0];
+        }
+        Node descendant = node;
+        while (descendant.value == null) {
+            descendant = descendant.children[0];
+        }
+        return Optional.of(descendant.value.substring(0, node.end));
+    }
+
+    /**
+     * Returns the highest node under which every string starts with {@code prefix}, ignoring case, or null if no
+     * string in this trie starts with {@code prefix}. {@code prefix} may end within the label of the node.
+     */
+    private Node findNode(String prefix) {
+        Node node = root;
+        int position = 0;
+        while (position < prefix.length()) {
+            int childIndex = node.indexOfChild(prefix.charAt(position));
+            if (childIndex < 0) {
+                return null;
+            }
+            node = node.children[childIndex];
+            int matchLength = node.matchLength(prefix, position);
+            if (matchLength < Math.min(node.end - node.start, prefix.length() - position)) {
+                return null;
+            }
+            position += matchLength;
+        }
+        return node;
+    }
+
+    /**
+     * Adds the strings under {@code node} to {@code values} in order, until it has {@code limit} strings.
+     */
+    private static void collectValues(Node node, List<String> values, int limit) {
+        if (values.size() >= limit) {
+            return;
+        }
+        if (node.value != null) {
+            values.add(node.value);
+        }
+        for (Node child : node.children) {
+            collectValues(child, values, limit);
+        }
+    }
+
+    /**
+     * Returns {@code c} in the case in which strings are compared.
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Represents a node of the trie. The label of the edge leading to the node is {@code source[start, end)}, where
+     * {@code start} is the length of the strings that end at its parent, so {@code source[0, end)} is the prefix that
+     * all strings under the node start with. Children are ordered by the first character of their label.
+     */
+    private static class Node {
+        private String source;
+        private final int start;
+        private int end;
+        private Node[] children = NO_CHILDREN;
+        // The string that ends at this node in the case it was first added in, or null if no string ends here
+        private String value;
+        private int count;
+
+        Node(String source, int start, int end) {
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        char getFirstCharacter() {
+            return fold(source.charAt(start));
+        }
+
+        /**
+         * Returns the number of characters of the label that match {@code string} from {@code position} onwards.
+         */
+        int matchLength(String string, int position) {
+            int length = Math.min(end - start, string.length() - position);
+            for (int i = 0; i < length; i++) {
+                if (fold(source.charAt(start + i)) != fold(string.charAt(position + i))) {
+                    return i;
+                }
+            }
+            return length;
+        }
+
+        /**
+         * Returns the index of the child whose label starts with {@code c}, ignoring case, or
+         * {@code -(insertion index) - 1} if there is none, as {@link java.util.Arrays#binarySearch} does.
+         */
+        int indexOfChild(char c) {
+            char key = fold(c);
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleKey = children[middle].getFirstCharacter();
+                if (middleKey < key) {
+                    low = middle + 1;
+                } else if (middleKey > key) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -low - 1;
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(Node child) {
+            int index = indexOfChild(child.source.charAt(child.start));
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        /**
+         * Splits the label of this node at {@code position}, moving the rest of the label, the string and the children
+         * of this node to a new child.
+         */
+        void split(int position) {
+            Node lower = new Node(source, position, end);
+            lower.children = children;
+            lower.value = value;
+            lower.count = count;
+            end = position;
+            children = new Node[] {lower};
+            value = null;
+            count = 0;
+        }
+
+        /**
+         * Joins the only child of this node into this node. The label of the child follows the label of this node in
+         * the source of the child, as the source of every node starts with the prefix of that node.
+         */
+        void mergeWithOnlyChild() {
+            Node child = children[0];
+            source = child.source;
+            end = child.end;
+            children = child.children;
+            value = child.value;
+            count = child.count;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.findvisor.commons.util;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
@@ -131,6 +132,21 @@ public class DateTimeUtil {
         return dateTime.truncatedTo(ChronoUnit.MINUTES).equals(otherDateTime.truncatedTo(ChronoUnit.MINUTES));
     }
 
+    /**
+     * Returns the number of whole minutes between the epoch and {@code dateTime}, ignoring time zones.
+     * Seconds and nanoseconds are truncated.
+     */
+    public static long toEpochMinutes(LocalDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    /**
+     * Returns the {@code LocalDateTime} that is {@code epochMinutes} minutes after the epoch, ignoring time zones.
+     */
+    public static LocalDateTime fromEpochMinutes(long epochMinutes) {
+        return LocalDateTime.ofEpochSecond(epochMinutes * 60, 0, ZoneOffset.UTC);
+    }
+
     /**
      * Checks if the two given LocalDate object have the same date.
      *
@@ -0,0 +1,14 @@
+package seedu.findvisor.commons.util;
+
+/**
+ * The formats in which {@link JsonUtil} can write a JSON file.
+ * Files in any of these formats are detected automatically when read.
+ */
+public enum JsonFileFormat {
+    /** Indented JSON that is easy to read and edit by hand. */
+    PRETTY,
+    /** JSON without any whitespace between values. */
+    COMPACT,
+    /** Compact JSON compressed with gzip. */
+    GZIP
+}
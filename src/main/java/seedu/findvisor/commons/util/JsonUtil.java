@@ -2,19 +2,32 @@ package seedu.findvisor.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,6 +35,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.findvisor.commons.core.LogsCenter;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -29,6 +43,7 @@ import seedu.findvisor.commons.exceptions.DataLoadingException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -40,17 +55,155 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        serializeObjectToJsonFile(jsonFile, objectToSerialize, JsonFileFormat.PRETTY);
     }
 
+    /**
+     * Streams {@code objectToSerialize} to {@code jsonFile} in the given {@code format},
+     * without building the whole JSON string in memory.
+     */
+    static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize, JsonFileFormat format)
+            throws IOException {
+        ObjectWriter writer = format == JsonFileFormat.PRETTY
+                ? objectMapper.writerWithDefaultPrettyPrinter()
+                : objectMapper.writer();
+        writeFileAtomically(jsonFile, format, outputStream -> writer.writeValue(outputStream, objectToSerialize));
+    }
+
+    /**
+     * Streams a JSON object to {@code jsonFile} in the given {@code format}, whose only field is named
+     * {@code arrayFieldName} and is an array of the {@code elements}.
+     * Only one element is held in memory at a time, so {@code elements} can be generated while they are written.
+     */
+    static <T> void serializeArrayToJsonFile(Path jsonFile, String arrayFieldName, Iterator<T> elements,
+            JsonFileFormat format) throws IOException {
+        // The elements are flushed together when the file is closed, not each time one is written
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        writeFileAtomically(jsonFile, format, outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                if (format == JsonFileFormat.PRETTY) {
+                    generator.useDefaultPrettyPrinter();
+                }
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                while (elements.hasNext()) {
+                    writer.writeValue(generator, elements.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Writes {@code jsonFile} in the given {@code format} with {@code contentWriter}, which is given the stream to
+     * write to. The content is written to a temporary file in the same folder that then replaces {@code jsonFile},
+     * so that a write that fails partway, or a crash, leaves the previous content of {@code jsonFile} intact.
+     */
+    private static void writeFileAtomically(Path jsonFile, JsonFileFormat format, ContentWriter contentWriter)
+            throws IOException {
+        Path folder = jsonFile.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(folder, "." + jsonFile.getFileName(), ".tmp");
+        try {
+            try (OutputStream outputStream = newOutputStream(tempFile, format)) {
+                contentWriter.write(outputStream);
+            }
+            FileUtil.moveAtomically(tempFile, jsonFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns a buffered stream that writes to {@code jsonFile}, compressing what is written if {@code format}
+     * is {@link JsonFileFormat#GZIP}.
+     */
+    private static OutputStream newOutputStream(Path jsonFile, JsonFileFormat format) throws IOException {
+        OutputStream fileStream = new BufferedOutputStream(Files.newOutputStream(jsonFile));
+        if (format != JsonFileFormat.GZIP) {
+            return fileStream;
+        }
+        try {
+            return new GZIPOutputStream(fileStream, BUFFER_SIZE);
+        } catch (IOException e) {
+            fileStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the object in {@code jsonFile} into an instance of {@code classOfObjectToDeserialize}.
+     * The file is decompressed first if it starts with the gzip magic number.
+     */
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (InputStream inputStream = newInputStream(jsonFile)) {
+            return objectMapper.readValue(inputStream, classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Streams the elements of the array in the field named {@code arrayFieldName} of the object in {@code jsonFile}
+     * to {@code elementHandler}, each as an instance of {@code elementClass}. Only one element is held in memory at a
+     * time. Other fields of the object are skipped.
+     */
+    static <T> void deserializeArrayFromJsonFile(Path jsonFile, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<? super T> elementHandler) throws IOException, IllegalValueException {
+        try (InputStream inputStream = newInputStream(jsonFile);
+                JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (!fieldName.equals(arrayFieldName) || valueToken == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (valueToken != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array in field " + arrayFieldName);
+                }
+                JsonToken elementToken;
+                while ((elementToken = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (elementToken == null) {
+                        throw new JsonParseException(parser, "Unexpected end of array in field " + arrayFieldName);
+                    }
+                    elementHandler.handle(objectMapper.readValue(parser, elementClass));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a buffered stream that reads from {@code jsonFile}, decompressing what is read if the file starts with
+     * the gzip magic number.
+     */
+    private static InputStream newInputStream(Path jsonFile) throws IOException {
+        InputStream fileStream = new BufferedInputStream(Files.newInputStream(jsonFile), BUFFER_SIZE);
+        try {
+            return isGzipped(fileStream) ? new GZIPInputStream(fileStream, BUFFER_SIZE) : fileStream;
+        } catch (IOException e) {
+            fileStream.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns true if {@code inputStream} starts with the gzip magic number, without consuming any bytes.
+     */
+    private static boolean isGzipped(InputStream inputStream) throws IOException {
+        inputStream.mark(2);
+        int firstByte = inputStream.read();
+        int secondByte = inputStream.read();
+        inputStream.reset();
+        return firstByte == (GZIPInputStream.GZIP_MAGIC & 0xff) && secondByte == (GZIPInputStream.GZIP_MAGIC >> 8);
     }
 
     /**
      * Returns the JSON object from the given file or {@code Optional.empty()} object if the file is not found.
      * If any values are missing from the file, default values will be used, as long as the file is a valid JSON file.
+     * The file can be in any {@link JsonFileFormat}, which is detected automatically.
      *
      * @param filePath cannot be null.
      * @param classOfObjectToDeserialize JSON file has to correspond to the structure in the class given here.
@@ -63,20 +216,54 @@ public class JsonUtil {
         if (!Files.exists(filePath)) {
             return Optional.empty();
         }
-        logger.info("JSON file " + filePath + " found.");
+        logger.info(() -> "JSON file " + filePath + " found.");
 
         T jsonFile;
 
         try {
             jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
         } catch (IOException e) {
-            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            logger.warning(() -> "Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataLoadingException(e);
         }
 
         return Optional.of(jsonFile);
     }
 
+    /**
+     * Reads the array in the field named {@code arrayFieldName} of the JSON object in the given file, passing each
+     * element to {@code elementHandler} as soon as it is read, so that the elements do not all have to be held in
+     * memory. The file can be in any {@link JsonFileFormat}, which is detected automatically.
+     *
+     * @param filePath cannot be null.
+     * @param arrayFieldName cannot be null.
+     * @param elementClass each element of the array has to correspond to the structure in the class given here.
+     * @param elementHandler cannot be null.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if reading the file failed, or {@code elementHandler} rejected an element.
+     *     The elements read before the failure have already been passed to {@code elementHandler}.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<? super T> elementHandler) throws DataLoadingException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elementClass);
+        requireNonNull(elementHandler);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info(() -> "JSON file " + filePath + " found.");
+
+        try {
+            deserializeArrayFromJsonFile(filePath, arrayFieldName, elementClass, elementHandler);
+        } catch (IOException | IllegalValueException e) {
+            logger.warning(() -> "Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+        return true;
+    }
+
     /**
      * Saves the Json object to the specified file.
      * Overwrites existing file if it exists, creates a new file if it doesn't.
@@ -85,10 +272,64 @@ public class JsonUtil {
      * @throws IOException if there was an error during writing to the file
      */
     public static <T> void saveJsonFile(T jsonFile, Path filePath) throws IOException {
+        saveJsonFile(jsonFile, filePath, JsonFileFormat.PRETTY);
+    }
+
+    /**
+     * Saves the Json object to the specified file in the given {@code format}.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @param format cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonFile(T jsonFile, Path filePath, JsonFileFormat format) throws IOException {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
+        requireNonNull(format);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        serializeObjectToJsonFile(filePath, jsonFile, format);
+    }
+
+    /**
+     * Saves the Json object to the specified file, like {@link #saveJsonFile(Object, Path)}, unless the file already
+     * holds exactly the same JSON. Meant for small files that are saved on every start, such as settings files.
+     * @param jsonFile cannot be null
+     * @param filePath cannot be null
+     * @return true if the file was written.
+     * @throws IOException if there was an error during reading or writing the file
+     */
+    public static <T> boolean saveJsonFileIfChanged(T jsonFile, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(jsonFile);
+
+        byte[] content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(jsonFile);
+        if (Files.isRegularFile(filePath) && Arrays.equals(Files.readAllBytes(filePath), content)) {
+            return false;
+        }
+        writeFileAtomically(filePath, JsonFileFormat.PRETTY, outputStream -> outputStream.write(content));
+        return true;
+    }
+
+    /**
+     * Saves a JSON object whose only field, {@code arrayFieldName}, is an array of the {@code elements}, to the
+     * specified file in the given {@code format}. The elements are written as they are iterated over, so they do not
+     * all have to be held in memory.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * @param filePath cannot be null
+     * @param arrayFieldName cannot be null
+     * @param elements cannot be null
+     * @param format cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterator<T> elements,
+            JsonFileFormat format) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(arrayFieldName);
+        requireNonNull(elements);
+        requireNonNull(format);
+
+        serializeArrayToJsonFile(filePath, arrayFieldName, elements, format);
     }
 
 
@@ -111,6 +352,27 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Handles the elements of an array read by {@link #readJsonArrayFile}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        /**
+         * Handles the next {@code element} of the array.
+         *
+         * @throws IllegalValueException if the element is not valid, which stops the reading of the array.
+         */
+        void handle(T element) throws IllegalValueException;
+    }
+
+    /**
+     * Writes the content of a file by {@link #writeFileAtomically}.
+     */
+    @FunctionalInterface
+    private interface ContentWriter {
+        void write(OutputStream outputStream) throws IOException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
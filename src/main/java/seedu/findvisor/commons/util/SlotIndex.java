@@ -0,0 +1,114 @@
+package seedu.findvisor.commons.util;
+
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A sequence of numbered slots, each occupied or free, that counts the occupied slots before any slot in
+ * logarithmic time. Slots are only added at the end and are never renumbered, so an element of a list can keep
+ * its slot as the elements before it are removed, while its position in the list is the rank of its slot.
+ * The occupied slots are counted with a Fenwick tree.
+ */
+public class SlotIndex {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // tree[i] is the number of occupied slots among slots (i - lowestOneBit(i), i], numbered from 1 here
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private final BitSet occupiedSlots = new BitSet();
+    private int slotCount;
+    private int occupiedCount;
+
+    /**
+     * Returns the number of slots, occupied or free.
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Returns the number of occupied slots.
+     */
+    public int getOccupiedCount() {
+        return occupiedCount;
+    }
+
+    /**
+     * Returns true if {@code slot} is an occupied slot.
+     */
+    public boolean isOccupied(int slot) {
+        return slot >= 0 && slot < slotCount && occupiedSlots.get(slot);
+    }
+
+    /**
+     * Adds an occupied slot after the existing slots, and returns its number.
+     */
+    public int add() {
+        int slot = slotCount;
+        int node = slot + 1;
+        if (node >= tree.length) {
+            tree = Arrays.copyOf(tree, tree.length * 2);
+        }
+        // The new node counts the slots before the new slot that it covers, which all exist already
+        tree[node] = 1 + countOccupiedBefore(slot) - countOccupiedBefore(node - Integer.lowestOneBit(node));
+        occupiedSlots.set(slot);
+        slotCount++;
+        occupiedCount++;
+        return slot;
+    }
+
+    /**
+     * Frees the occupied {@code slot}.
+     *
+     * @throws IllegalArgumentException if {@code slot} is not an occupied slot.
+     */
+    public void free(int slot) {
+        if (!isOccupied(slot)) {
+            throw new IllegalArgumentException("Slot " + slot + " is not occupied.");
+        }
+        occupiedSlots.clear(slot);
+        occupiedCount--;
+        for (int node = slot + 1; node <= slotCount; node += Integer.lowestOneBit(node)) {
+            tree[node]--;
+        }
+    }
+
+    /**
+     * Returns the number of occupied slots before {@code slot}, which is the position of the element in
+     * {@code slot} among the elements in occupied slots.
+     *
+     * @throws IllegalArgumentException if {@code slot} is not a slot.
+     */
+    public int getRank(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IllegalArgumentException("Slot " + slot + " does not exist.");
+        }
+        return countOccupiedBefore(slot);
+    }
+
+    /**
+     * Replaces all the slots with {@code count} occupied slots, numbered from 0.
+     */
+    public void reset(int count) {
+        checkArgument(count >= 0, "Slot count must not be negative.");
+        tree = new int[Math.max(INITIAL_CAPACITY, count) + 1];
+        for (int node = 1; node <= count; node++) {
+            tree[node] = Integer.lowestOneBit(node);
+        }
+        occupiedSlots.clear();
+        occupiedSlots.set(0, count);
+        slotCount = count;
+        occupiedCount = count;
+    }
+
+    private int countOccupiedBefore(int slot) {
+        int count = 0;
+        for (int node = slot; node > 0; node -= Integer.lowestOneBit(node)) {
+            count += tree[node];
+        }
+        return count;
+    }
+
+}
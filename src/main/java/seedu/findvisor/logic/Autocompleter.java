@@ -0,0 +1,214 @@
+package seedu.findvisor.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.findvisor.commons.util.CompletionTrie;
+import seedu.findvisor.commons.util.ToStringBuilder;
+import seedu.findvisor.logic.parser.AddressBookParser;
+import seedu.findvisor.model.AddressBookSnapshot;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.tag.Tag;
+
+/**
+ * Completes the command word, person name or tag name being typed at the end of a command.
+ * The names and tags of the persons are kept in tries that are updated as the list of persons changes, so that
+ * completing takes about the same time however many persons there are.
+ */
+public class Autocompleter {
+
+    /** Maximum number of completions given for a word that can be completed in several ways. */
+    public static final int MAX_COMPLETIONS = 10;
+
+    // The last argument of a command: a prefix after whitespace, and the value after it up to the end of the command
+    private static final Pattern LAST_ARGUMENT_FORMAT = Pattern.compile(".*\\s(?<prefix>\\S+/)(?<value>[^/]*)");
+
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final CompletionTrie names = new CompletionTrie();
+    private final CompletionTrie tags = new CompletionTrie();
+
+    /**
+     * Creates an {@code Autocompleter} that completes command words, and the names and tags of {@code persons}
+     * as the list changes.
+     */
+    public Autocompleter(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        AddressBookParser.getCommandWords().forEach(commandWords::add);
+        persons.forEach(this::addPerson);
+        keepUpdated(persons);
+    }
+
+    /**
+     * Creates an {@code Autocompleter} that completes command words, and the names and tags of the persons in
+     * {@code snapshot}. As the snapshot never changes, it can be created on any thread, e.g. so that a large address
+     * book is indexed in the background, and then kept up to date with {@link #keepUpdated(ObservableList)}.
+     */
+    public Autocompleter(AddressBookSnapshot snapshot) {
+        requireNonNull(snapshot);
+        AddressBookParser.getCommandWords().forEach(commandWords::add);
+        snapshot.getPersons().forEach(this::addPerson);
+    }
+
+    /**
+     * Updates the completions as {@code persons} changes. {@code persons} must contain the same persons as the
+     * completions were created from.
+     */
+    public void keepUpdated(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.addListener(this::updatePersons);
+    }
+
+    /**
+     * Returns the completion of the command word, or the name or tag argument, at the end of {@code commandText},
+     * or an empty {@code Optional} if there is nothing to complete there or it cannot be completed.
+     */
+    public Optional<Completion> complete(String commandText) {
+        requireNonNull(commandText);
+        String text = commandText.stripLeading();
+        if (!text.isEmpty() && text.chars().noneMatch(Character::isWhitespace)) {
+            return complete(commandWords, text, "");
+        }
+
+        Matcher matcher = LAST_ARGUMENT_FORMAT.matcher(text);
+        if (!matcher.matches()) {
+            return Optional.empty();
+        }
+        String prefix = matcher.group("prefix");
+        String value = matcher.group("value");
+        String textBeforeValue = text.substring(0, matcher.start("value"));
+        if (prefix.equals(PREFIX_NAME.getPrefix()) && !value.isBlank()) {
+            return complete(names, value.stripLeading(), textBeforeValue);
+        }
+        if (prefix.equals(PREFIX_TAG.getPrefix()) && !value.isEmpty()
+                && value.chars().noneMatch(Character::isWhitespace)) {
+            return complete(tags, value, textBeforeValue);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the completion of {@code word} with the strings in {@code trie}, where {@code textBeforeWord} is the
+     * text of the command before the word.
+     */
+    private static Optional<Completion> complete(CompletionTrie trie, String word, String textBeforeWord) {
+        List<String> completions = trie.getCompletions(word, MAX_COMPLETIONS);
+        if (completions.isEmpty()) {
+            return Optional.empty();
+        }
+        if (completions.size() == 1) {
+            // A complete word is followed by a space, ready for the next argument
+            return Optional.of(new Completion(textBeforeWord + completions.get(0) + " ", completions));
+        }
+        return Optional.of(new Completion(textBeforeWord + trie.getCommonCompletion(word).get(), completions));
+    }
+
+    /**
+     * Updates the tries with the persons added to and removed from the list in {@code change}.
+     */
+    private void updatePersons(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (!change.wasReplaced()) {
+                change.getRemoved().forEach(this::removePerson);
+                change.getAddedSubList().forEach(this::addPerson);
+                continue;
+            }
+
+            // The whole list is replaced when it is reset or merged, keeping the persons that are unchanged,
+            // which do not have to be removed and added again
+            Set<Person> removedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+            removedPersons.addAll(change.getRemoved());
+            for (Person person : change.getAddedSubList()) {
+                if (!removedPersons.remove(person)) {
+                    addPerson(person);
+                }
+            }
+            removedPersons.forEach(this::removePerson);
+        }
+    }
+
+    private void addPerson(Person person) {
+        names.add(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void removePerson(Person person) {
+        names.remove(person.getName().fullName);
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+
+    /**
+     * The result of completing a command.
+     */
+    public static class Completion {
+        private final String completedText;
+        private final List<String> completions;
+
+        /**
+         * Creates a {@code Completion} that replaces the command with {@code completedText}, where
+         * {@code completions} are the words that the word being typed could be completed to.
+         */
+        public Completion(String completedText, List<String> completions) {
+            requireNonNull(completedText);
+            requireNonNull(completions);
+            this.completedText = completedText;
+            this.completions = List.copyOf(completions);
+        }
+
+        public String getCompletedText() {
+            return completedText;
+        }
+
+        /**
+         * Returns up to {@link #MAX_COMPLETIONS} words that the word being typed could be completed to, in
+         * alphabetical order. If there is only one, it has been completed.
+         */
+        public List<String> getCompletions() {
+            return completions;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Completion)) {
+                return false;
+            }
+
+            Completion otherCompletion = (Completion) other;
+            return completedText.equals(otherCompletion.completedText)
+                    && completions.equals(otherCompletion.completions);
+        }
+
+        @Override
+        public int hashCode() {
+            return completedText.hashCode() * 31 + completions.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("completedText", completedText)
+                    .add("completions", completions)
+                    .toString();
+        }
+    }
+
+}
@@ -0,0 +1,225 @@
+package seedu.findvisor.logic;
+
+import static seedu.findvisor.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.ListChangeListener;
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.logic.commands.FindCommand;
+import seedu.findvisor.model.AddressBookSnapshot;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonPredicate;
+
+/**
+ * Searches the address book while a find command is being typed, so that the matching persons are shown before the
+ * command is entered. A search starts after a short pause in typing, and is evaluated on a background thread against
+ * the latest snapshot of the address book, so that searching a large address book does not block the UI thread.
+ * A search that is superseded by a later one is cancelled, and only the result of the latest search is shown.
+ * Once the command is no longer a valid find command, the filter from before the search is restored.
+ */
+public class LiveSearch {
+
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 150;
+
+    /** Number of persons tested between checks for whether the search has been superseded. */
+    private static final int CANCELLATION_CHECK_INTERVAL = 4096;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveSearch.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final Consumer<String> feedbackHandler;
+    private final long debounceMillis;
+    private final ScheduledExecutorService searchExecutor;
+    // The number of the latest search. A search with an older number has been superseded.
+    private final AtomicLong latestSearchNumber = new AtomicLong();
+    private Future<?> pendingSearch;
+    // The number of changes to the person list, counted on the thread that uses the Logic
+    private long personListChangeCount;
+    // The filter of the person list before the result of a search was shown, or null if none is shown
+    private Predicate<Person> predicateBeforeSearch;
+
+    /**
+     * Creates a {@code LiveSearch} that starts each search after a pause of {@link #DEFAULT_DEBOUNCE_MILLIS}.
+     *
+     * @see #LiveSearch(Logic, Executor, Consumer, long)
+     */
+    public LiveSearch(Logic logic, Executor uiExecutor, Consumer<String> feedbackHandler) {
+        this(logic, uiExecutor, feedbackHandler, DEFAULT_DEBOUNCE_MILLIS);
+    }
+
+    /**
+     * Creates a {@code LiveSearch} that shows the result of each search in the filtered person list of {@code logic},
+     * and passes its result message to {@code feedbackHandler}. Both are done through {@code uiExecutor}, which must
+     * run tasks on the thread that uses {@code logic}. A search starts once no other search has been requested for
+     * {@code debounceMillis}.
+     */
+    public LiveSearch(Logic logic, Executor uiExecutor, Consumer<String> feedbackHandler, long debounceMillis) {
+        requireAllNonNull(logic, uiExecutor, feedbackHandler);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.feedbackHandler = feedbackHandler;
+        this.debounceMillis = debounceMillis;
+        searchExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "live-search");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logic.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                personListChangeCount++);
+    }
+
+    /**
+     * Searches for the persons matching {@code commandText} if it is a valid find command, superseding any earlier
+     * search. Otherwise, restores the filter from before the result of a search was shown, if one is shown.
+     * Must be called on the thread that uses the {@code Logic}.
+     */
+    public void search(String commandText) {
+        cancelPendingSearch();
+        Optional<PersonPredicate> predicate = logic.parseFindPredicate(commandText);
+        if (!predicate.isPresent()) {
+            restorePredicateBeforeSearch();
+            return;
+        }
+        startSearch(predicate.get(), debounceMillis);
+    }
+
+    /**
+     * Starts evaluating {@code predicate} after {@code delayMillis}.
+     */
+    private void startSearch(PersonPredicate predicate, long delayMillis) {
+        long searchNumber = latestSearchNumber.get();
+        long searchedChangeCount = personListChangeCount;
+        ReadOnlyAddressBook addressBook = logic.getAddressBook();
+        // The snapshot is taken when the search is evaluated, after the pause in typing, so that it is the latest
+        pendingSearch = searchExecutor.schedule(() -> evaluate(searchNumber, searchedChangeCount, predicate,
+                addressBook.getSnapshot()), delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancels the current search, if any, so that its result is not shown, and keeps the result of any earlier
+     * search that is shown, e.g. as a command is about to be executed that sets its own filter.
+     * Must be called on the thread that uses the {@code Logic}.
+     */
+    public void cancel() {
+        cancelPendingSearch();
+        predicateBeforeSearch = null;
+    }
+
+    private void cancelPendingSearch() {
+        latestSearchNumber.incrementAndGet();
+        if (pendingSearch != null) {
+            pendingSearch.cancel(false);
+            pendingSearch = null;
+        }
+    }
+
+    /**
+     * Filters the person list by the predicate from before the result of a search was shown, if one is shown.
+     */
+    private void restorePredicateBeforeSearch() {
+        if (predicateBeforeSearch == null) {
+            return;
+        }
+        logic.updateFilteredPersonList(predicateBeforeSearch);
+        predicateBeforeSearch = null;
+        feedbackHandler.accept("");
+    }
+
+    private boolean isSuperseded(long searchNumber) {
+        return searchNumber != latestSearchNumber.get();
+    }
+
+    /**
+     * Tests every person in {@code snapshot} with {@code predicate}, and passes the matching persons to the UI thread
+     * to be shown, unless the search is superseded first. {@code searchedChangeCount} is the number of changes to
+     * the person list when the search was started.
+     */
+    private void evaluate(long searchNumber, long searchedChangeCount, PersonPredicate predicate,
+            AddressBookSnapshot snapshot) {
+        long startTime = System.nanoTime();
+        List<Person> persons = snapshot.getPersons();
+        Set<Person> matchingPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % CANCELLATION_CHECK_INTERVAL == 0 && isSuperseded(searchNumber)) {
+                return;
+            }
+            Person person = persons.get(i);
+            if (predicate.test(person)) {
+                matchingPersons.add(person);
+            }
+        }
+        logger.fine(() -> "Searched " + persons.size() + " person(s) in "
+                + TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime) + " us");
+        uiExecutor.execute(() -> show(searchNumber, searchedChangeCount,
+                new SearchResultPredicate(predicate, matchingPersons)));
+    }
+
+    /**
+     * Shows the result of the search, unless it has been superseded. If the person list has changed since the
+     * search was started, the snapshot that was searched may not have every person in the list, so the search is
+     * started again instead.
+     */
+    private void show(long searchNumber, long searchedChangeCount, SearchResultPredicate searchResult) {
+        if (isSuperseded(searchNumber)) {
+            return;
+        }
+        if (searchedChangeCount != personListChangeCount) {
+            startSearch(searchResult.predicate, 0);
+            return;
+        }
+
+        pendingSearch = null;
+        if (predicateBeforeSearch == null) {
+            predicateBeforeSearch = logic.getFilteredPersonListPredicate();
+        }
+        logic.updateFilteredPersonList(searchResult);
+        searchResult.finishShowing();
+        feedbackHandler.accept(String.format(FindCommand.MESSAGE_FIND_COMMAND_RESULT,
+                logic.getFilteredPersonList().size(), searchResult.predicate.getPredicateDescription()));
+    }
+
+    /**
+     * A predicate that looks up the result of a search while the filtered list is filtered by it, which tests every
+     * person that was searched. Afterwards, it tests the persons added or edited with the predicate of the search,
+     * so that the filtered list stays correct as the address book changes.
+     */
+    private static class SearchResultPredicate implements Predicate<Person> {
+        private final PersonPredicate predicate;
+        // The persons that matched the search, until the filtered list has been filtered by this predicate
+        private Set<Person> matchingPersons;
+
+        SearchResultPredicate(PersonPredicate predicate, Set<Person> matchingPersons) {
+            this.predicate = predicate;
+            this.matchingPersons = matchingPersons;
+        }
+
+        /**
+         * Stops looking up the result of the search, once the filtered list has been filtered by this predicate.
+         */
+        void finishShowing() {
+            matchingPersons = null;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return matchingPersons != null ? matchingPersons.contains(person) : predicate.test(person);
+        }
+    }
+
+}
@@ -1,7 +1,10 @@
 package seedu.findvisor.logic;
 
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.findvisor.commons.core.GuiSettings;
 import seedu.findvisor.logic.commands.CommandResult;
@@ -9,6 +12,7 @@ import seedu.findvisor.logic.commands.exceptions.CommandException;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonPredicate;
 
 /**
  * API of the Logic component
@@ -23,6 +27,19 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the predicate of the find command in {@code commandText} without executing the command, or an empty
+     * {@code Optional} if {@code commandText} is not a valid find command.
+     */
+    Optional<PersonPredicate> parseFindPredicate(String commandText);
+
+    /**
+     * Returns the completion of the command word, or the name or tag argument, being typed at the end of
+     * {@code commandText}, or an empty {@code Optional} if it cannot be completed, or the persons have not been
+     * indexed for completion yet.
+     */
+    Optional<Autocompleter.Completion> complete(String commandText);
+
     /**
      * Returns the AddressBook.
      *
@@ -33,9 +50,30 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, without executing a
+     * command.
+     *
+     * @see seedu.findvisor.model.Model#updateFilteredPersonList(Predicate)
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns the predicate that the filtered person list was last filtered by.
+     *
+     * @see seedu.findvisor.model.Model#getFilteredPersonListPredicate()
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
     /** Returns an unmodifiable view of the list of persons with today's meetings */
     ObservableList<Person> getTodaysMeetingPersonList();
 
+    /**
+     * Returns the property that is true while the address book is still being loaded.
+     * Only commands that do not change the address book can be executed while it is loading.
+     */
+    ReadOnlyBooleanProperty loadingProperty();
+
     /**
      * Returns the user prefs' address book file path.
      */
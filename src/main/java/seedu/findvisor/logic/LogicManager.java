@@ -3,19 +3,30 @@ package seedu.findvisor.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.findvisor.commons.core.GuiSettings;
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.metrics.CommandMetrics;
+import seedu.findvisor.commons.metrics.CommandMetrics.Phase;
 import seedu.findvisor.logic.commands.Command;
 import seedu.findvisor.logic.commands.CommandResult;
+import seedu.findvisor.logic.commands.FindCommand;
 import seedu.findvisor.logic.commands.exceptions.CommandException;
 import seedu.findvisor.logic.parser.AddressBookParser;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
 import seedu.findvisor.model.Model;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonPredicate;
 import seedu.findvisor.storage.Storage;
 
 /**
@@ -32,33 +43,175 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Executor indexExecutor;
+    private final Executor uiExecutor;
+    // Null until the persons have been indexed for completion
+    private Autocompleter autocompleter;
+    private boolean isIndexing;
+    // The number of changes to the person list, counted on the thread that uses this LogicManager
+    private long personListChangeCount;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * The persons are indexed for completion on the calling thread when a command is first completed, for when
+     * there is no UI thread to keep responsive.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Runnable::run, Runnable::run);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which is used on the UI
+     * thread that {@code uiExecutor} runs tasks on. The persons are indexed for completion on a background thread
+     * once the model has finished loading, so that indexing a large address book does not block the UI thread.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
+        this(model, storage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "completion-index");
+            thread.setDaemon(true);
+            return thread;
+        }), uiExecutor);
+        model.loadingProperty().addListener((observable, wasLoading, isLoading) -> {
+            if (!isLoading) {
+                startIndexing();
+            }
+        });
+        if (!model.isLoading()) {
+            startIndexing();
+        }
+    }
+
+    private LogicManager(Model model, Storage storage, Executor indexExecutor, Executor uiExecutor) {
         this.model = model;
         this.storage = storage;
+        this.indexExecutor = indexExecutor;
+        this.uiExecutor = uiExecutor;
         addressBookParser = new AddressBookParser();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                personListChangeCount++);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        // Commands are only measured if their command word is known, so that typos do not add metrics
+        Optional<String> commandWord = addressBookParser.getCommandWord(commandText);
+        CommandMetrics metrics = model.getCommandMetrics();
+        Optional<Long> allocatedBytesAtStart = CommandMetrics.getCurrentThreadAllocatedBytes();
+        long phaseStartTime = System.nanoTime();
+        try {
+            CommandResult commandResult;
+            Command command;
+            try {
+                command = addressBookParser.parseCommand(commandText);
+            } finally {
+                phaseStartTime = recordPhase(commandWord, Phase.PARSE, phaseStartTime);
+            }
+
+            if (model.isLoading() && command.isMutating()) {
+                throw new CommandException(Messages.MESSAGE_ADDRESS_BOOK_LOADING);
+            }
+
+            long personsScannedAtStart = metrics.getTotalPersonsScanned();
+            try {
+                commandResult = command.execute(model);
+            } finally {
+                phaseStartTime = recordPhase(commandWord, Phase.EXECUTE, phaseStartTime);
+                commandWord.ifPresent(word -> metrics.recordPersonsScanned(word,
+                        metrics.getTotalPersonsScanned() - personsScannedAtStart));
+            }
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+            // A partly loaded address book must not replace the data file
+            try {
+                if (!model.isLoading()) {
+                    storage.saveAddressBook(model.getAddressBook());
+                }
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            } finally {
+                recordPhase(commandWord, Phase.SAVE, phaseStartTime);
+            }
 
+            return commandResult;
+        } finally {
+            Optional<Long> allocatedBytesAtEnd = CommandMetrics.getCurrentThreadAllocatedBytes();
+            if (commandWord.isPresent() && allocatedBytesAtStart.isPresent() && allocatedBytesAtEnd.isPresent()) {
+                metrics.recordAllocatedBytes(commandWord.get(),
+                        allocatedBytesAtEnd.get() - allocatedBytesAtStart.get());
+            }
+        }
+    }
+
+    /**
+     * Records the duration of {@code phase} of the command with {@code commandWord}, if the command word is known,
+     * from {@code phaseStartTime} until now.
+     *
+     * @return the current time, which is the start time of the next phase.
+     */
+    private long recordPhase(Optional<String> commandWord, Phase phase, long phaseStartTime) {
+        long currentTime = System.nanoTime();
+        commandWord.ifPresent(word -> model.getCommandMetrics().recordDuration(word, phase,
+                currentTime - phaseStartTime));
+        return currentTime;
+    }
+
+    @Override
+    public Optional<PersonPredicate> parseFindPredicate(String commandText) {
+        Optional<String> commandWord = addressBookParser.getCommandWord(commandText);
+        if (!commandWord.equals(Optional.of(FindCommand.COMMAND_WORD))) {
+            return Optional.empty();
+        }
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            return Optional.of(((FindCommand) addressBookParser.parseCommand(commandText)).getPredicate());
+        } catch (ParseException pe) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public Optional<Autocompleter.Completion> complete(String commandText) {
+        if (autocompleter == null && !model.isLoading()) {
+            startIndexing();
         }
+        return autocompleter != null ? autocompleter.complete(commandText) : Optional.empty();
+    }
 
-        return commandResult;
+    /**
+     * Indexes the persons for completion from a snapshot of the address book on {@link #indexExecutor}, unless they
+     * have been indexed or are being indexed.
+     */
+    private void startIndexing() {
+        if (autocompleter != null || isIndexing) {
+            return;
+        }
+        isIndexing = true;
+        long indexedChangeCount = personListChangeCount;
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        indexExecutor.execute(() -> {
+            long startTime = System.nanoTime();
+            Autocompleter indexedAutocompleter = new Autocompleter(addressBook.getSnapshot());
+            logger.fine(() -> "Indexed persons for completion in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) + " ms");
+            uiExecutor.execute(() -> finishIndexing(indexedAutocompleter, indexedChangeCount));
+        });
+    }
+
+    /**
+     * Completes commands with {@code indexedAutocompleter} from now on, or indexes the persons again if the person
+     * list has changed since {@code indexedChangeCount}, as the snapshot that was indexed may then not have the
+     * same persons as the list.
+     */
+    private void finishIndexing(Autocompleter indexedAutocompleter, long indexedChangeCount) {
+        isIndexing = false;
+        if (indexedChangeCount != personListChangeCount) {
+            startIndexing();
+            return;
+        }
+        indexedAutocompleter.keepUpdated(model.getAddressBook().getPersonList());
+        autocompleter = indexedAutocompleter;
     }
 
     @Override
@@ -71,11 +224,26 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        model.updateFilteredPersonList(predicate);
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return model.getFilteredPersonListPredicate();
+    }
+
     @Override
     public ObservableList<Person> getTodaysMeetingPersonList() {
         return model.getTodaysMeetingPersonList();
     }
 
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return model.loadingProperty();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -15,6 +15,7 @@ import seedu.findvisor.model.person.Remark;
 public class Messages {
 
     public static final String MESSAGE_UNKNOWN_COMMAND = "Unknown command";
+    public static final String MESSAGE_AMBIGUOUS_COMMAND = "Ambiguous command, did you mean one of: %1$s?";
     public static final String MESSAGE_INVALID_COMMAND_FORMAT = "Invalid command format! \n%1$s";
     public static final String MESSAGE_INVALID_PERSON_DISPLAYED_INDEX = "The person index provided is invalid";
     public static final String MESSAGE_DUPLICATE_FIELDS =
@@ -23,6 +24,9 @@ public class Messages {
     public static final String MESSAGE_CANNOT_SCHEDULE_MEETING_IN_THE_PAST = "Cannot schedule meeting that"
             + " starts before the current time!";
     public static final String MESSAGE_REQUIRE_AT_LEAST_ONE_FIELD = "At least one field to edit must be provided.";
+    public static final String MESSAGE_ADDRESS_BOOK_LOADING = "The address book is still loading."
+            + " Only commands that do not change it can be used until it has loaded.";
+    public static final String MESSAGE_COMPLETIONS = "Possible completions: %1$s";
 
     public static final String MESSAGE_SAFE_STRING_INPUT_CHARACTERS = "alphanumeric characters, whitespace and the"
             + " following set of characters: {!@#$%^&*()_+-{}[]:;'\"<>?.,|~`\\}";
@@ -0,0 +1,159 @@
+package seedu.findvisor.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.util.ToStringBuilder;
+import seedu.findvisor.logic.commands.CommandResult;
+import seedu.findvisor.logic.commands.exceptions.CommandException;
+import seedu.findvisor.logic.parser.exceptions.ParseException;
+import seedu.findvisor.storage.DeferredSaveStorage;
+
+/**
+ * Executes a script of commands, one command per line, without the GUI.
+ * Blank lines and lines starting with {@link #COMMENT_PREFIX} are skipped, and an {@code exit} command
+ * stops the script. The address book is saved every {@code saveInterval} commands and once the script ends.
+ */
+public class ScriptRunner {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d [%2$s] failed: %3$s";
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "Save interval must not be negative.";
+
+    private static final Logger logger = LogsCenter.getLogger(ScriptRunner.class);
+
+    private final Logic logic;
+    private final DeferredSaveStorage storage;
+    private final int saveInterval;
+    private final PrintStream errorOutput;
+
+    /**
+     * Creates a {@code ScriptRunner} that executes commands with {@code logic}, whose saves are deferred by
+     * {@code storage}. Failed commands are reported to {@code errorOutput}.
+     *
+     * @param saveInterval number of commands to execute between each save, or 0 to only save at the end.
+     */
+    public ScriptRunner(Logic logic, DeferredSaveStorage storage, int saveInterval, PrintStream errorOutput) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        requireNonNull(errorOutput);
+        checkArgument(saveInterval >= 0, MESSAGE_INVALID_SAVE_INTERVAL);
+        this.logic = logic;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+        this.errorOutput = errorOutput;
+    }
+
+    /**
+     * Executes every command read from {@code script} and returns a summary of the run.
+     * Commands that fail are reported and skipped.
+     *
+     * @throws IOException if the script could not be read or the address book could not be saved.
+     */
+    public Summary run(BufferedReader script) throws IOException {
+        requireNonNull(script);
+        long startTime = System.nanoTime();
+        int executedCount = 0;
+        int failedCount = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executedCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                errorOutput.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, commandText, e.getMessage()));
+            }
+
+            if (saveInterval > 0 && executedCount % saveInterval == 0) {
+                storage.flush();
+            }
+        }
+        storage.flush();
+
+        Summary summary = new Summary(executedCount, failedCount, storage.getSaveCount(),
+                System.nanoTime() - startTime);
+        logger.info(() -> "Script finished: " + summary);
+        return summary;
+    }
+
+    /**
+     * Represents the throughput statistics of a script run.
+     */
+    public static class Summary {
+        private final int executedCount;
+        private final int failedCount;
+        private final int saveCount;
+        private final long elapsedNanos;
+
+        /**
+         * Constructs a {@code Summary} with the given statistics.
+         */
+        public Summary(int executedCount, int failedCount, int saveCount, long elapsedNanos) {
+            this.executedCount = executedCount;
+            this.failedCount = failedCount;
+            this.saveCount = saveCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getExecutedCount() {
+            return executedCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public int getSaveCount() {
+            return saveCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands executed per second, including failed commands.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : executedCount / (elapsedNanos / 1e9);
+        }
+
+        /**
+         * Formats the summary for display to the user.
+         */
+        public String format() {
+            return String.format("Executed %1$d command(s), %2$d failed, in %3$d ms (%4$.1f commands/s). "
+                    + "Saved %5$d time(s).", executedCount, failedCount, elapsedNanos / 1_000_000,
+                    getCommandsPerSecond(), saveCount);
+        }
+
+        @Override
+        public String toString() {
+            return new ToStringBuilder(this)
+                    .add("executedCount", executedCount)
+                    .add("failedCount", failedCount)
+                    .add("saveCount", saveCount)
+                    .add("elapsedNanos", elapsedNanos)
+                    .toString();
+        }
+    }
+
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if the command may change the address book. Commands that only read the address book override
+     * this to return false, so that they can be run while the address book is still being loaded.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
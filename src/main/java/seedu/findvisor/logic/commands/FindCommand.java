@@ -51,6 +51,10 @@ public class FindCommand extends Command {
         this.predicate = predicate;
     }
 
+    public PersonPredicate getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
@@ -59,6 +63,11 @@ public class FindCommand extends Command {
                 model.getFilteredPersonList().size(), predicate.getPredicateDescription()));
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -0,0 +1,75 @@
+package seedu.findvisor.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.findvisor.commons.metrics.CommandMetrics;
+import seedu.findvisor.commons.metrics.CommandMetrics.Phase;
+import seedu.findvisor.commons.metrics.LatencyHistogram;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.util.InternPool;
+
+/**
+ * Shows statistics about the address book, such as the memory saved by sharing repeated field values,
+ * and about the commands run in this session, such as how long each phase of a command took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows statistics about the address book.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Persons: %1$d\n"
+            + "Repeated field values shared when loading: %2$d of %3$d (about %4$d KB of memory saved)";
+
+    public static final String MESSAGE_COMMAND_METRICS_HEADER =
+            "\nCommand times in ms (median / 99th percentile / max):";
+
+    public static final String MESSAGE_COMMAND_METRICS = "\n%1$s: %2$d run(s); parse %3$s; execute %4$s; save %5$s; "
+            + "%6$d person(s) scanned; %7$d KB allocated";
+
+    public static final String MESSAGE_TIMES = "%1$.2f / %2$.2f / %3$.2f";
+
+    private static final int BYTES_PER_KB = 1024;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        InternPool internPool = model.getInternPool();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS,
+                model.getAddressBook().getPersonList().size(),
+                internPool.getSharedCount(),
+                internPool.getLookupCount(),
+                internPool.getSavedBytes() / BYTES_PER_KB));
+
+        CommandMetrics metrics = model.getCommandMetrics();
+        if (!metrics.getCommandWords().isEmpty()) {
+            message.append(MESSAGE_COMMAND_METRICS_HEADER);
+        }
+        for (String commandWord : metrics.getCommandWords()) {
+            message.append(String.format(MESSAGE_COMMAND_METRICS, commandWord,
+                    metrics.getHistogram(commandWord, Phase.EXECUTE).getCount(),
+                    formatTimes(metrics.getHistogram(commandWord, Phase.PARSE)),
+                    formatTimes(metrics.getHistogram(commandWord, Phase.EXECUTE)),
+                    formatTimes(metrics.getHistogram(commandWord, Phase.SAVE)),
+                    metrics.getPersonsScanned(commandWord),
+                    metrics.getAllocatedBytes(commandWord) / BYTES_PER_KB));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    /**
+     * Returns the median, 99th percentile and maximum of the durations in {@code histogram}, in milliseconds.
+     */
+    public static String formatTimes(LatencyHistogram histogram) {
+        return String.format(MESSAGE_TIMES,
+                LatencyHistogram.toMillis(histogram.getNanosAtPercentile(50)),
+                LatencyHistogram.toMillis(histogram.getNanosAtPercentile(99)),
+                LatencyHistogram.toMillis(histogram.getMaxNanos()));
+    }
+}
@@ -1,11 +1,10 @@
 package seedu.findvisor.logic.parser;
 
 import static seedu.findvisor.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.findvisor.commons.core.LogsCenter;
 import seedu.findvisor.logic.commands.AddCommand;
@@ -22,6 +21,7 @@ import seedu.findvisor.logic.commands.ListCommand;
 import seedu.findvisor.logic.commands.RemarkCommand;
 import seedu.findvisor.logic.commands.RescheduleCommand;
 import seedu.findvisor.logic.commands.ScheduleCommand;
+import seedu.findvisor.logic.commands.StatsCommand;
 import seedu.findvisor.logic.commands.UnscheduleCommand;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
 
@@ -30,11 +30,33 @@ import seedu.findvisor.logic.parser.exceptions.ParseException;
  */
 public class AddressBookParser {
 
+    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+
     /**
-     * Used for initial separation of command word and args.
+     * Parsers of all commands, shared by all instances as the parsers are stateless.
+     * To add a new command, register its command word and parser here.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
-    private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandRegistry COMMAND_REGISTRY = createCommandRegistry();
+
+    private static CommandRegistry createCommandRegistry() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(AddTagCommand.COMMAND_WORD, new AddTagCommandParser());
+        registry.register(ScheduleCommand.COMMAND_WORD, new ScheduleCommandParser());
+        registry.register(RescheduleCommand.COMMAND_WORD, new RescheduleCommandParser());
+        registry.register(UnscheduleCommand.COMMAND_WORD, new UnscheduleCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(RemarkCommand.COMMAND_WORD, new RemarkCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(DeleteTagCommand.COMMAND_WORD, new DeleteTagCommandParser());
+        registry.registerWithoutAbbreviation(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, arguments -> new ListCommand());
+        registry.register(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, arguments -> new HelpCommand());
+        registry.register(StatsCommand.COMMAND_WORD, arguments -> new StatsCommand());
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -44,67 +66,61 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        int argumentsStart = getArgumentsStart(trimmedInput);
+        final String commandWord = trimmedInput.substring(0, argumentsStart);
+        final String arguments = trimmedInput.substring(argumentsStart);
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
-
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case AddTagCommand.COMMAND_WORD:
-            return new AddTagCommandParser().parse(arguments);
-
-        case ScheduleCommand.COMMAND_WORD:
-            return new ScheduleCommandParser().parse(arguments);
-
-        case RescheduleCommand.COMMAND_WORD:
-            return new RescheduleCommandParser().parse(arguments);
-
-        case UnscheduleCommand.COMMAND_WORD:
-            return new UnscheduleCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case RemarkCommand.COMMAND_WORD:
-            return new RemarkCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case DeleteTagCommand.COMMAND_WORD:
-            return new DeleteTagCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
+
+        final Parser<? extends Command> parser;
+        try {
+            parser = COMMAND_REGISTRY.getParser(commandWord);
+        } catch (ParseException pe) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw pe;
+        }
+        return parser.parse(arguments);
+    }
 
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+    /**
+     * Returns the position in {@code trimmedInput} where the arguments start, which is the first whitespace.
+     */
+    private static int getArgumentsStart(String trimmedInput) {
+        int argumentsStart = 0;
+        while (argumentsStart < trimmedInput.length()
+                && !Character.isWhitespace(trimmedInput.charAt(argumentsStart))) {
+            argumentsStart++;
+        }
+        return argumentsStart;
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns the full command word of the command in {@code userInput}, resolving aliases and abbreviations,
+     * or an empty {@code Optional} if {@code userInput} has no known command.
+     */
+    public Optional<String> getCommandWord(String userInput) {
+        String trimmedInput = userInput.trim();
+        try {
+            return Optional.of(COMMAND_REGISTRY.resolveCommandWord(
+                    trimmedInput.substring(0, getArgumentsStart(trimmedInput))));
+        } catch (ParseException pe) {
+            return Optional.empty();
         }
     }
 
+    /**
+     * Returns all command words and aliases recognized by this parser.
+     */
+    public static Set<String> getCommandWords() {
+        return COMMAND_REGISTRY.getCommandWords();
+    }
+
 }
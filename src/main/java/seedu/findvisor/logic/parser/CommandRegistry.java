@@ -0,0 +1,120 @@
+package seedu.findvisor.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+import static seedu.findvisor.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import seedu.findvisor.logic.commands.Command;
+import seedu.findvisor.logic.parser.exceptions.ParseException;
+
+/**
+ * Maps command words and their aliases to the {@code Parser} of the command.
+ * Registered parsers must be stateless as a single instance is shared by every parse.
+ * A command can also be looked up by any abbreviation of its command word that is shared by no other command,
+ * unless it was registered with {@link #registerWithoutAbbreviation(String, Parser)}.
+ */
+public class CommandRegistry {
+
+    public static final String MESSAGE_DUPLICATE_COMMAND_WORD = "Command word %1$s is already registered.";
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final NavigableMap<String, Parser<? extends Command>> abbreviableParsers = new TreeMap<>();
+    // The command word that each parser was first registered for, which its aliases resolve to
+    private final Map<Parser<? extends Command>, String> commandWords = new IdentityHashMap<>();
+
+    /**
+     * Registers {@code parser} as the parser for {@code commandWord} and each of the {@code aliases}.
+     * The command word and aliases can also be abbreviated. Nothing is registered if any of them is already
+     * registered.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser, String... aliases) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        requireNonNull(aliases);
+        Set<String> newCommandWords = new HashSet<>();
+        newCommandWords.add(commandWord);
+        for (String alias : aliases) {
+            requireNonNull(alias);
+            checkArgument(!parsers.containsKey(alias) && newCommandWords.add(alias),
+                    String.format(MESSAGE_DUPLICATE_COMMAND_WORD, alias));
+        }
+
+        registerWithoutAbbreviation(commandWord, parser);
+        abbreviableParsers.put(commandWord, parser);
+        for (String alias : aliases) {
+            registerWithoutAbbreviation(alias, parser);
+            abbreviableParsers.put(alias, parser);
+        }
+    }
+
+    /**
+     * Registers {@code parser} as the parser for {@code commandWord}, which must be typed out in full.
+     * Used for commands that should never be triggered by accident, e.g. clearing all data.
+     */
+    public void registerWithoutAbbreviation(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        checkArgument(!parsers.containsKey(commandWord), String.format(MESSAGE_DUPLICATE_COMMAND_WORD, commandWord));
+        parsers.put(commandWord, parser);
+        commandWords.putIfAbsent(parser, commandWord);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or for the only command whose command word or alias
+     * starts with {@code commandWord}.
+     *
+     * @throws ParseException if no command matches, or if the abbreviation matches more than one command.
+     */
+    public Parser<? extends Command> getParser(String commandWord) throws ParseException {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser != null) {
+            return parser;
+        }
+
+        if (commandWord.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        SortedMap<String, Parser<? extends Command>> matches =
+                abbreviableParsers.subMap(commandWord, commandWord + Character.MAX_VALUE);
+        if (matches.isEmpty()) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        // A command word and its aliases all map to the same parser instance
+        boolean isUniqueMatch = matches.values().stream().distinct().count() == 1;
+        if (!isUniqueMatch) {
+            throw new ParseException(String.format(MESSAGE_AMBIGUOUS_COMMAND,
+                    String.join(", ", matches.keySet())));
+        }
+        return matches.get(matches.firstKey());
+    }
+
+    /**
+     * Returns the command word of the command that {@code commandWord} is looked up as by
+     * {@link #getParser(String)}, which is {@code commandWord} itself unless it is an alias or an abbreviation.
+     *
+     * @throws ParseException if no command matches, or if the abbreviation matches more than one command.
+     */
+    public String resolveCommandWord(String commandWord) throws ParseException {
+        return commandWords.get(getParser(commandWord));
+    }
+
+    /**
+     * Returns all registered command words and aliases.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsers.keySet());
+    }
+
+}
@@ -0,0 +1,91 @@
+package seedu.findvisor.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+/**
+ * A trie over a fixed set of {@code Prefix}es that finds which of them, if any, starts at a given position
+ * of a string, examining each character of the string at most once.
+ */
+class PrefixTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Creates a {@code PrefixTrie} that recognizes each of the given {@code prefixes}.
+     * Empty prefixes are ignored as they cannot mark the beginning of an argument.
+     */
+    PrefixTrie(Prefix... prefixes) {
+        requireNonNull(prefixes);
+        for (Prefix prefix : prefixes) {
+            insert(prefix);
+        }
+    }
+
+    private void insert(Prefix prefix) {
+        String prefixString = prefix.getPrefix();
+        if (prefixString.isEmpty()) {
+            return;
+        }
+
+        Node node = root;
+        for (int i = 0; i < prefixString.length(); i++) {
+            node = node.getOrCreateChild(prefixString.charAt(i));
+        }
+        node.prefix = prefix;
+    }
+
+    /**
+     * Returns the longest prefix in this trie that occurs in {@code string} starting at index {@code fromIndex},
+     * or null if there is no such prefix.
+     */
+    Prefix match(String string, int fromIndex) {
+        Prefix longestMatch = null;
+        Node node = root;
+        for (int i = fromIndex; i < string.length(); i++) {
+            node = node.getChild(string.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.prefix != null) {
+                longestMatch = node.prefix;
+            }
+        }
+        return longestMatch;
+    }
+
+    /**
+     * Represents a node of the trie. Children are kept in small parallel arrays as the number of
+     * distinct characters following any node is tiny.
+     */
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private Prefix prefix;
+
+        Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node getOrCreateChild(char key) {
+            Node child = getChild(key);
+            if (child != null) {
+                return child;
+            }
+
+            child = new Node();
+            keys = Arrays.copyOf(keys, keys.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            keys[keys.length - 1] = key;
+            children[children.length - 1] = child;
+            return child;
+        }
+    }
+
+}
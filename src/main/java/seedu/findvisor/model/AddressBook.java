@@ -4,18 +4,28 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.List;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.findvisor.commons.util.ChunkedList;
 import seedu.findvisor.commons.util.ToStringBuilder;
 import seedu.findvisor.model.person.Person;
 import seedu.findvisor.model.person.UniquePersonList;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * A snapshot of the persons can be obtained from any thread with {@link #getSnapshot()}. A snapshot is published
+ * after every modification, sharing all but the changed chunks of its persons with the previous snapshot, so that
+ * taking a snapshot neither copies the persons nor waits for modifications.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final InternPool internPool;
+    // The persons of the latest snapshot, which is published for other threads to read
+    private ChunkedList<Person> snapshotPersons = ChunkedList.empty();
+    private volatile AddressBookSnapshot snapshot = AddressBookSnapshot.EMPTY;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -26,18 +36,31 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        persons.asUnmodifiableObservableList().addListener(this::publishSnapshot);
     }
 
-    public AddressBook() {}
+    public AddressBook() {
+        internPool = new InternPool();
+    }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * If {@code toBeCopied} is an {@code AddressBook}, the copy shares its intern pool, as the copied persons
+     * hold the values in that pool.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
-        this();
+        requireNonNull(toBeCopied);
+        internPool = toBeCopied instanceof AddressBook ? ((AddressBook) toBeCopied).internPool : new InternPool();
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns the pool of field values shared by the persons loaded into this address book.
+     */
+    public InternPool getInternPool() {
+        return internPool;
+    }
+
     //// list overwrite operations
 
     /**
@@ -57,6 +80,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         setPersons(newData.getPersonList());
     }
 
+    /**
+     * Replaces the existing data of this {@code AddressBook} with {@code newData} in a single update,
+     * keeping the existing instance of every person that is unchanged in {@code newData}.
+     *
+     * @return the number of persons added, edited or removed.
+     */
+    public int mergeData(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+
+        return persons.mergePersons(newData.getPersonList());
+    }
+
     //// person-level operations
 
     /**
@@ -75,6 +110,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code persons} to the address book in a single update.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -108,6 +151,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns the snapshot of the persons as of the latest modification. Can be called from any thread.
+     */
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Publishes a new snapshot with the persons changed in {@code change} replaced, on the thread that modifies
+     * this address book.
+     */
+    private void publishSnapshot(ListChangeListener.Change<? extends Person> change) {
+        ChunkedList<Person> changedPersons = snapshotPersons;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                changedPersons = ChunkedList.of(change.getList());
+                break;
+            }
+            changedPersons = changedPersons.withReplaced(change.getFrom(), change.getRemovedSize(),
+                    change.getAddedSubList());
+        }
+        snapshotPersons = changedPersons;
+        snapshot = new AddressBookSnapshot(snapshot.getVersion() + 1, changedPersons);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
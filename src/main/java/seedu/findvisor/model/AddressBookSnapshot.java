@@ -0,0 +1,95 @@
+package seedu.findvisor.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.findvisor.commons.util.ChunkedList;
+import seedu.findvisor.commons.util.ToStringBuilder;
+import seedu.findvisor.model.person.Person;
+
+/**
+ * An immutable copy of the persons in an address book at a particular version.
+ * Unlike {@link AddressBook}, a snapshot never changes after it is created, so it can be read and iterated
+ * by any thread while the address book it was taken from continues to be modified.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(0, List.of());
+
+    private final long version;
+    private final List<Person> persons;
+    private final ObservableList<Person> personList;
+
+    /**
+     * Creates a snapshot of {@code persons} at the given {@code version}.
+     * {@code persons} is copied, so later changes to it do not affect the snapshot, unless it is a
+     * {@code ChunkedList}, which never changes.
+     */
+    public AddressBookSnapshot(long version, List<Person> persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.persons = persons instanceof ChunkedList ? persons : List.copyOf(persons);
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(this.persons));
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     * The version of an address book increases every time it is modified.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the immutable list of persons in this snapshot.
+     */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in this snapshot. The list never changes, so it never fires
+     * change events.
+     */
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return this;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AddressBookSnapshot)) {
+            return false;
+        }
+
+        AddressBookSnapshot otherSnapshot = (AddressBookSnapshot) other;
+        return version == otherSnapshot.version
+                && persons.equals(otherSnapshot.persons);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons)
+                .toString();
+    }
+}
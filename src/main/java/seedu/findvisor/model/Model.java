@@ -1,11 +1,15 @@
 package seedu.findvisor.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.findvisor.commons.core.GuiSettings;
+import seedu.findvisor.commons.metrics.CommandMetrics;
 import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * The API of the Model component.
@@ -49,9 +53,23 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Replaces address book data with the data in {@code addressBook} in a single update, keeping the persons
+     * that are unchanged in {@code addressBook}.
+     *
+     * @return the number of persons added, edited or removed.
+     */
+    int mergeAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /** Returns the pool of field values shared by the persons in the address book. */
+    InternPool getInternPool();
+
+    /** Returns the metrics of the commands run on this model, including the persons scanned by its predicates. */
+    CommandMetrics getCommandMetrics();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -69,6 +87,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons in a single update, without changing the filter of the filtered person list.
+     * None of {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -85,6 +109,25 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Returns the predicate that the filtered person list was last filtered by, or
+     * {@link #PREDICATE_SHOW_ALL_PERSONS} if it has not been filtered.
+     */
+    Predicate<Person> getFilteredPersonListPredicate();
+
     /** Returns an unmodifiable view of the list of persons with today's meetings */
     ObservableList<Person> getTodaysMeetingPersonList();
+
+    /**
+     * Returns true if the address book is still being loaded, in which case it holds only some of its persons.
+     */
+    boolean isLoading();
+
+    /**
+     * Sets whether the address book is still being loaded.
+     */
+    void setLoading(boolean isLoading);
+
+    /** Returns the property that is true while the address book is still being loaded. */
+    ReadOnlyBooleanProperty loadingProperty();
 }
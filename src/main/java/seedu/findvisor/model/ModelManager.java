@@ -4,15 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.findvisor.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.findvisor.commons.core.GuiSettings;
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.metrics.CommandMetrics;
 import seedu.findvisor.model.person.Person;
 import seedu.findvisor.model.person.PersonTodayMeetingsPredicate;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -23,7 +29,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private Predicate<Person> filteredPersonsPredicate = PREDICATE_SHOW_ALL_PERSONS;
     private final FilteredList<Person> todaysMeetingPersons;
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+    private final BooleanProperty loading = new SimpleBooleanProperty(false);
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -31,13 +40,13 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         todaysMeetingPersons = new FilteredList<>(this.addressBook.getPersonList());
-        todaysMeetingPersons.setPredicate(new PersonTodayMeetingsPredicate());
+        todaysMeetingPersons.setPredicate(countScans(new PersonTodayMeetingsPredicate()));
     }
 
     public ModelManager() {
@@ -86,11 +95,27 @@ public class ModelManager implements Model {
         this.addressBook.resetData(addressBook);
     }
 
+    @Override
+    public int mergeAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return this.addressBook.mergeData(addressBook);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return addressBook;
     }
 
+    @Override
+    public InternPool getInternPool() {
+        return addressBook.getInternPool();
+    }
+
+    @Override
+    public CommandMetrics getCommandMetrics() {
+        return commandMetrics;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -108,6 +133,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -129,7 +160,23 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersonsPredicate = predicate;
+        filteredPersons.setPredicate(countScans(predicate));
+    }
+
+    @Override
+    public Predicate<Person> getFilteredPersonListPredicate() {
+        return filteredPersonsPredicate;
+    }
+
+    /**
+     * Returns a predicate that tests persons with {@code predicate}, counting each person tested in the metrics.
+     */
+    private Predicate<Person> countScans(Predicate<Person> predicate) {
+        return person -> {
+            commandMetrics.countPersonScanned();
+            return predicate.test(person);
+        };
     }
 
     @Override
@@ -137,6 +184,23 @@ public class ModelManager implements Model {
         return todaysMeetingPersons;
     }
 
+    //=========== Loading ====================================================================================
+
+    @Override
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    @Override
+    public void setLoading(boolean isLoading) {
+        loading.set(isLoading);
+    }
+
+    @Override
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -14,4 +14,9 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns an immutable snapshot of the current persons list that can be read safely from any thread.
+     */
+    AddressBookSnapshot getSnapshot();
+
 }
@@ -3,6 +3,7 @@ package seedu.findvisor.model;
 import java.nio.file.Path;
 
 import seedu.findvisor.commons.core.GuiSettings;
+import seedu.findvisor.commons.util.JsonFileFormat;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    JsonFileFormat getAddressBookFileFormat();
+
 }
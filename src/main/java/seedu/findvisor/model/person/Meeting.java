@@ -7,7 +7,6 @@ import static seedu.findvisor.commons.util.StringUtil.isSafeString;
 import static seedu.findvisor.logic.Messages.MESSAGE_SAFE_STRING_INPUT_CHARACTERS;
 
 import java.time.LocalDateTime;
-import java.util.Objects;
 
 import seedu.findvisor.commons.util.DateTimeUtil;
 import seedu.findvisor.commons.util.ToStringBuilder;
@@ -27,8 +26,10 @@ public class Meeting {
     public static final String MESSAGE_REMARK_CONSTRAINTS = "Remark is at most "
             + MAX_REMARK_LENGTH + " characters long and can only contain " + MESSAGE_SAFE_STRING_INPUT_CHARACTERS;
 
-    private final LocalDateTime start;
-    private final LocalDateTime end;
+    // Meetings are only precise to the minute, so the datetimes are kept as minutes since the epoch
+    // instead of as LocalDateTime objects.
+    private final long startMinutes;
+    private final long endMinutes;
     private final String remark;
 
     /**
@@ -41,8 +42,8 @@ public class Meeting {
         requireAllNonNull(start, end, remark);
         checkArgument(isValidDateTime(start, end), MESSAGE_DATETIME_CONSTRAINTS);
         checkArgument(isValidRemark(remark), MESSAGE_REMARK_CONSTRAINTS);
-        this.start = start;
-        this.end = end;
+        this.startMinutes = DateTimeUtil.toEpochMinutes(start);
+        this.endMinutes = DateTimeUtil.toEpochMinutes(end);
         this.remark = remark;
     }
 
@@ -64,11 +65,11 @@ public class Meeting {
     }
 
     public LocalDateTime getStart() {
-        return start;
+        return DateTimeUtil.fromEpochMinutes(startMinutes);
     }
 
     public LocalDateTime getEnd() {
-        return end;
+        return DateTimeUtil.fromEpochMinutes(endMinutes);
     }
 
     public String getRemark() {
@@ -76,11 +77,11 @@ public class Meeting {
     }
 
     public String getStartString() {
-        return DateTimeUtil.dateTimeToString(start);
+        return DateTimeUtil.dateTimeToString(getStart());
     }
 
     public String getEndString() {
-        return DateTimeUtil.dateTimeToString(end);
+        return DateTimeUtil.dateTimeToString(getEnd());
     }
 
     @Override
@@ -104,15 +105,15 @@ public class Meeting {
         }
 
         Meeting otherMeeting = (Meeting) other;
-        // We only need to compare up to minutes, comparing seconds and nanos is unnecessary and can cause issues.
-        return DateTimeUtil.isEqualsDateTimeMinutes(start, otherMeeting.start)
-                && DateTimeUtil.isEqualsDateTimeMinutes(end, otherMeeting.end)
+        return startMinutes == otherMeeting.startMinutes
+                && endMinutes == otherMeeting.endMinutes
                 && remark.equals(otherMeeting.remark);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(start, end);
+        // Avoids boxing the minutes as Objects.hash would
+        return 31 * Long.hashCode(startMinutes) + Long.hashCode(endMinutes);
     }
 
 }
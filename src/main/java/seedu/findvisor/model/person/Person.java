@@ -2,14 +2,13 @@ package seedu.findvisor.model.person;
 
 import static seedu.findvisor.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
 import seedu.findvisor.commons.util.ToStringBuilder;
 import seedu.findvisor.model.tag.Tag;
+import seedu.findvisor.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -23,10 +22,16 @@ public class Person {
     private final Email email;
 
     // Data fields
+    // The meeting and remark are null if absent, as the model may hold a very large number of persons
+    // and an Optional would cost an extra object for each of them.
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
-    private final Optional<Meeting> meeting;
-    private final Optional<Remark> remark;
+    private final TagSet tags;
+    private final Meeting meeting;
+    private final Remark remark;
+
+    // Cached hash code, computed on first use as persons are often hashed repeatedly, e.g. as map keys.
+    // Zero if not computed yet.
+    private int hash;
 
     /**
      * Every field must be present and not null.
@@ -37,9 +42,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.meeting = Optional.empty();
-        this.remark = Optional.empty();
+        this.tags = TagSet.of(tags);
+        this.meeting = null;
+        this.remark = null;
     }
 
     /**
@@ -52,9 +57,9 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
-        this.meeting = meeting;
-        this.remark = remark;
+        this.tags = TagSet.of(tags);
+        this.meeting = meeting.orElse(null);
+        this.remark = remark.orElse(null);
     }
 
     public Name getName() {
@@ -74,19 +79,19 @@ public class Person {
     }
 
     /**
-     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * Returns an immutable tag set, sorted by tag name, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Optional<Meeting> getMeeting() {
-        return meeting;
+        return Optional.ofNullable(meeting);
     }
 
     public Optional<Remark> getRemark() {
-        return remark;
+        return Optional.ofNullable(remark);
     }
 
     /**
@@ -118,19 +123,27 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
-                && phone.equals(otherPerson.phone)
+        if (hash != 0 && otherPerson.hash != 0 && hash != otherPerson.hash) {
+            return false;
+        }
+
+        // The phone is compared first as it identifies a person, so it differs between most pairs of persons
+        return phone.equals(otherPerson.phone)
+                && name.equals(otherPerson.name)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
-                && meeting.equals(otherPerson.meeting)
-                && remark.equals(otherPerson.remark)
+                && Objects.equals(meeting, otherPerson.meeting)
+                && Objects.equals(remark, otherPerson.remark)
                 && tags.equals(otherPerson.tags);
     }
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, meeting, remark);
+        if (hash == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hash = Objects.hash(name, phone, email, address, tags, meeting, remark);
+        }
+        return hash;
     }
 
     @Override
@@ -140,8 +153,8 @@ public class Person {
                 .add("phone", phone)
                 .add("email", email)
                 .add("address", address)
-                .add("meeting", meeting)
-                .add("remark", remark)
+                .add("meeting", getMeeting())
+                .add("remark", getRemark())
                 .add("tags", tags)
                 .toString();
     }
@@ -3,11 +3,15 @@ package seedu.findvisor.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.findvisor.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.findvisor.commons.util.SlotIndex;
 import seedu.findvisor.model.person.exceptions.DuplicatePersonException;
 import seedu.findvisor.model.person.exceptions.PersonNotFoundException;
 
@@ -19,21 +23,34 @@ import seedu.findvisor.model.person.exceptions.PersonNotFoundException;
  * as to ensure that the person with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Each person is indexed by phone, the identity field, so persons are found without a linear search. The index maps
+ * each phone to a slot that the person keeps until it is removed, so removing a person does not renumber the
+ * persons after it, and the position of a person is found from its slot in logarithmic time.
+ * {@code UniquePersonListBenchmark} in the {@code jmh} source set measures these operations on large lists.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    // Each change to the list is handled separately by the lists observing it, at a cost that grows with the size
+    // of the list, so a merge with more changes than this replaces the whole list in a single change instead
+    private static final int MAX_SEPARATELY_MERGED_CHANGES = 64;
+    // The number of slots below which free slots are kept instead of renumbering the persons
+    private static final int MIN_COMPACTED_SLOT_COUNT = 1024;
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The slot of each person, by phone. The position of a person in internalList is the rank of its slot.
+    private final Map<Phone, Integer> slots = new HashMap<>();
+    private final SlotIndex slotIndex = new SlotIndex();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return slots.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -45,9 +62,28 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        slots.put(toAdd.getPhone(), slotIndex.add());
         internalList.add(toAdd);
     }
 
+    /**
+     * Adds {@code toAdd} to the end of the list in a single update.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Map<Phone, Integer> addedPositions = getPositions(toAdd);
+        for (Phone phone : addedPositions.keySet()) {
+            if (slots.containsKey(phone)) {
+                throw new DuplicatePersonException();
+            }
+        }
+        for (Person person : toAdd) {
+            slots.put(person.getPhone(), slotIndex.add());
+        }
+        internalList.addAll(toAdd);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -56,7 +92,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,6 +101,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        slots.put(editedPerson.getPhone(), slots.remove(target.getPhone()));
         internalList.set(index, editedPerson);
     }
 
@@ -74,13 +111,51 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        slotIndex.free(slots.remove(toRemove.getPhone()));
+        internalList.remove(index);
+        compactSlotsIfSparse();
+    }
+
+    /**
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     */
+    private int indexOf(Person person) {
+        Integer slot = slots.get(person.getPhone());
+        if (slot == null) {
+            return -1;
+        }
+        int index = slotIndex.getRank(slot);
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    /**
+     * Numbers the slots of the persons from 0 again once most slots are free, so that the free slots take up
+     * memory and lookup time in proportion to the persons in the list. This renumbers every person, but only after
+     * as many removals as there are persons.
+     */
+    private void compactSlotsIfSparse() {
+        if (slotIndex.getSlotCount() > 2 * Math.max(internalList.size(), MIN_COMPACTED_SLOT_COUNT)) {
+            setSlots(getPositions(internalList));
+        }
+    }
+
+    /**
+     * Replaces the slots of the persons with {@code newSlots}, which numbers them from 0 in the order of the list.
+     */
+    private void setSlots(Map<Phone, Integer> newSlots) {
+        slots.clear();
+        slots.putAll(newSlots);
+        slotIndex.reset(newSlots.size());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        setSlots(getPositions(replacement.internalList));
         internalList.setAll(replacement.internalList);
     }
 
@@ -90,11 +165,86 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        setSlots(getPositions(persons));
+        internalList.setAll(persons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, keeping the existing instance and position of every
+     * person that is unchanged in {@code persons}. Persons are matched by phone, their identity field, and the
+     * persons that are not in this list yet are added to the end of it.
+     * Only the persons added, edited or removed are changed in the list, unless there are many of them, in which
+     * case the whole list is replaced in a single change.
+     * {@code persons} must not contain duplicate persons.
+     *
+     * @return the number of persons added, edited or removed.
+     */
+    public int mergePersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Phone, Integer> newPositions = getPositions(persons);
+
+        List<Integer> editedIndices = new ArrayList<>();
+        List<Integer> removedIndices = new ArrayList<>();
+        for (int i = 0; i < internalList.size(); i++) {
+            Integer newIndex = newPositions.get(internalList.get(i).getPhone());
+            if (newIndex == null) {
+                removedIndices.add(i);
+            } else if (!persons.get(newIndex).equals(internalList.get(i))) {
+                editedIndices.add(i);
+            }
+        }
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (!slots.containsKey(person.getPhone())) {
+                addedPersons.add(person);
+            }
         }
 
-        internalList.setAll(persons);
+        int changeCount = editedIndices.size() + removedIndices.size() + addedPersons.size();
+        if (changeCount == 0) {
+            return 0;
+        }
+        if (changeCount > MAX_SEPARATELY_MERGED_CHANGES) {
+            List<Person> mergedPersons = getMergedPersons(newPositions, persons, addedPersons);
+            setSlots(getPositions(mergedPersons));
+            internalList.setAll(mergedPersons);
+            return changeCount;
+        }
+
+        // Edited persons keep their phone, and so their slot
+        for (int index : editedIndices) {
+            internalList.set(index, persons.get(newPositions.get(internalList.get(index).getPhone())));
+        }
+        // Removed from the end, so that the positions of the other removed persons stay the same
+        for (int i = removedIndices.size() - 1; i >= 0; i--) {
+            slotIndex.free(slots.remove(internalList.remove((int) removedIndices.get(i)).getPhone()));
+        }
+        for (Person person : addedPersons) {
+            slots.put(person.getPhone(), slotIndex.add());
+        }
+        internalList.addAll(addedPersons);
+        compactSlotsIfSparse();
+        return changeCount;
+    }
+
+    /**
+     * Returns the persons of this list merged with {@code persons}, as described in {@link #mergePersons}, where
+     * {@code newPositions} are the positions of {@code persons} and {@code addedPersons} are the persons in
+     * {@code persons} that are not in this list.
+     */
+    private List<Person> getMergedPersons(Map<Phone, Integer> newPositions, List<Person> persons,
+            List<Person> addedPersons) {
+        List<Person> mergedPersons = new ArrayList<>(persons.size());
+        for (Person person : internalList) {
+            Integer newIndex = newPositions.get(person.getPhone());
+            if (newIndex == null) {
+                continue;
+            }
+            Person newPerson = persons.get(newIndex);
+            mergedPersons.add(newPerson.equals(person) ? person : newPerson);
+        }
+        mergedPersons.addAll(addedPersons);
+        return mergedPersons;
     }
 
     /**
@@ -135,16 +285,17 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of each person in {@code persons}, by phone.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Phone, Integer> getPositions(List<Person> persons) {
+        Map<Phone, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (positions.put(persons.get(i).getPhone(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return positions;
     }
 }
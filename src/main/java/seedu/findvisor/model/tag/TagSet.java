@@ -0,0 +1,119 @@
+package seedu.findvisor.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, sorted by tag name.
+ * The tags are kept in a plain array, which takes far less memory than a {@code HashSet} for the few tags
+ * that a person has, at the cost of a linear search in {@link #contains(Object)}.
+ * All methods that would modify the set throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    public static final TagSet EMPTY = new TagSet(new Tag[0]);
+
+    private final Tag[] tags;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+    }
+
+    /**
+     * Returns a {@code TagSet} with the given {@code tags}.
+     */
+    public static TagSet of(Set<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] tagArray = tags.toArray(new Tag[0]);
+        Arrays.sort(tagArray, Comparator.comparing(tag -> tag.tagName));
+        return new TagSet(tagArray);
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return Arrays.asList(tags).iterator();
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        for (Tag tag : tags) {
+            if (tag.equals(other)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // Both arrays are sorted by tag name, so equal sets have equal arrays
+        if (other instanceof TagSet) {
+            return Arrays.equals(tags, ((TagSet) other).tags);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object other) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+}
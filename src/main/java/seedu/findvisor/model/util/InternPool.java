@@ -0,0 +1,115 @@
+package seedu.findvisor.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import seedu.findvisor.commons.util.ToStringBuilder;
+import seedu.findvisor.model.tag.Tag;
+
+/**
+ * A pool of the field values that repeat across the persons of an address book, such as addresses, remarks and
+ * tags, so that persons loaded with equal values share a single copy of each value.
+ * Values are only weakly referenced by the pool, so a value is dropped from the pool once no person uses it.
+ * The pool is thread-safe, as persons may be loaded by several threads at once.
+ */
+public class InternPool {
+
+    // Estimated sizes, assuming compressed references and one byte per character
+    private static final int STRING_BYTES = 24;
+    private static final int ARRAY_HEADER_BYTES = 16;
+    private static final int TAG_BYTES = 16;
+
+    private final Map<String, WeakReference<String>> strings = new WeakHashMap<>();
+    private final Map<String, WeakReference<Tag>> tags = new WeakHashMap<>();
+    private long lookupCount;
+    private long sharedCount;
+    private long savedBytes;
+
+    /**
+     * Returns the pooled string equal to {@code value}, adding {@code value} to the pool if there is none.
+     */
+    public synchronized String intern(String value) {
+        requireNonNull(value);
+        lookupCount++;
+        WeakReference<String> reference = strings.get(value);
+        String pooledValue = reference == null ? null : reference.get();
+        if (pooledValue != null) {
+            recordShared(estimateBytes(value));
+            return pooledValue;
+        }
+
+        strings.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the pooled tag named {@code tagName}, creating it if there is none.
+     *
+     * @throws IllegalArgumentException if {@code tagName} is not a valid tag name.
+     */
+    public synchronized Tag internTag(String tagName) {
+        requireNonNull(tagName);
+        lookupCount++;
+        WeakReference<Tag> reference = tags.get(tagName);
+        Tag pooledTag = reference == null ? null : reference.get();
+        if (pooledTag != null) {
+            recordShared(TAG_BYTES + estimateBytes(tagName));
+            return pooledTag;
+        }
+
+        Tag tag = new Tag(tagName);
+        // The key is the tag's own name, so the entry is kept for as long as the tag is in use
+        tags.put(tag.tagName, new WeakReference<>(tag));
+        return tag;
+    }
+
+    private void recordShared(long bytes) {
+        sharedCount++;
+        savedBytes += bytes;
+    }
+
+    /**
+     * Returns the estimated number of bytes taken by {@code value}.
+     */
+    private static long estimateBytes(String value) {
+        return STRING_BYTES + alignToEightBytes(ARRAY_HEADER_BYTES + value.length());
+    }
+
+    private static long alignToEightBytes(long bytes) {
+        return (bytes + 7) / 8 * 8;
+    }
+
+    /**
+     * Returns the number of values looked up in this pool.
+     */
+    public synchronized long getLookupCount() {
+        return lookupCount;
+    }
+
+    /**
+     * Returns the number of looked up values that were replaced by an equal value already in this pool.
+     */
+    public synchronized long getSharedCount() {
+        return sharedCount;
+    }
+
+    /**
+     * Returns the estimated number of bytes saved by sharing values instead of keeping a copy of each.
+     */
+    public synchronized long getSavedBytes() {
+        return savedBytes;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return new ToStringBuilder(this)
+                .add("lookupCount", lookupCount)
+                .add("sharedCount", sharedCount)
+                .add("savedBytes", savedBytes)
+                .toString();
+    }
+
+}
@@ -0,0 +1,191 @@
+package seedu.findvisor.model.util;
+
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.person.Address;
+import seedu.findvisor.model.person.Email;
+import seedu.findvisor.model.person.Meeting;
+import seedu.findvisor.model.person.Name;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.Phone;
+import seedu.findvisor.model.person.Remark;
+import seedu.findvisor.model.tag.Tag;
+
+/**
+ * Generates valid persons with realistic values, for testing the app with address books of any size.
+ * A generator created with the same seed, base date and meeting density always generates the same persons.
+ * The persons generated by one generator all have different phone numbers, so they can be added to one address book.
+ */
+public class PersonGenerator {
+
+    public static final double DEFAULT_MEETING_DENSITY = 0.3;
+
+    /** The number of different phone numbers, which are 8 digits starting with 8 or 9. */
+    public static final int MAX_PERSONS = 20_000_000;
+
+    public static final String MESSAGE_TOO_MANY_PERSONS = "At most " + MAX_PERSONS
+            + " persons can be generated, as there are no more phone numbers.";
+
+    // Coprime with MAX_PERSONS, so that stepping by it visits every phone number once in a shuffled-looking order
+    private static final int PHONE_STEP = 7_368_787;
+    private static final int FIRST_PHONE = 80_000_000;
+
+    // Values earlier in these lists are picked more often, as the most common names and tags are in real books
+    private static final String[] FIRST_NAMES = {"Wei", "Jun", "Hui", "Ming", "Alex", "Sarah", "Daniel", "Rachel",
+        "Muhammad", "Nur", "Siti", "Ahmad", "Priya", "Ravi", "Kumar", "Li", "Jia", "Ethan", "Chloe", "Bernice",
+        "David", "Holly", "Irfan", "Roy", "Charlotte", "Elizabeth", "Don", "Bernard", "Aisyah", "Vikram"};
+    private static final String[] LAST_NAMES = {"Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan",
+        "Koh", "Teo", "Yeoh", "Low", "Yu", "Li", "Ibrahim", "Abdullah", "Rahman", "Balakrishnan", "Pillai",
+        "Oliveiro", "Kaur", "Singh", "Nair"};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "gmail.com", "gmail.com", "hotmail.com",
+        "yahoo.com.sg", "outlook.com", "example.com"};
+    private static final String[] STREETS = {"Ang Mo Kio Avenue", "Bedok North Street", "Bukit Merah Lane",
+        "Clementi Avenue", "Geylang Street", "Hougang Street", "Jurong West Street", "Pasir Ris Drive",
+        "Serangoon Gardens Street", "Tampines Street", "Toa Payoh Lorong", "Woodlands Drive", "Yishun Ring Road"};
+    private static final String[] TAGS = {"PRUGrowth", "PRUHealth", "friends", "family", "PRUShield",
+        "PRUtravelsafe", "colleagues", "PRUgain365", "referral", "PRULink", "PRUActive", "VIP", "Father", "Mother",
+        "Child", "PRUSaver"};
+    // The weights of a person having 0, 1, 2 and 3 tags
+    private static final int[] TAG_COUNT_WEIGHTS = {30, 40, 20, 10};
+    private static final String[] MEETING_REMARKS = {"Online Meeting", "Physical meeting at a cafe",
+        "Policy review", "Claim follow-up", "Discuss new plan", "Annual review at the office"};
+    private static final String[] REMARKS = {"Wants to fund a new business", "Still schooling",
+        "Planning to buy a new house", "Recently married", "Looking for retirement plans",
+        "Prefers to be contacted after work", "Travels often for work"};
+    private static final double REMARK_DENSITY = 0.4;
+    // Meetings are spread over this many days before and after the base date
+    private static final int MEETING_DAYS_AROUND_BASE_DATE = 60;
+    private static final int FIRST_MEETING_HOUR = 9;
+    private static final int MEETING_HOURS_PER_DAY = 9;
+
+    private final Random random;
+    private final LocalDate baseDate;
+    private final double meetingDensity;
+    private final int firstPhoneIndex;
+    private int generatedCount = 0;
+
+    /**
+     * Creates a {@code PersonGenerator} whose persons have meetings around {@code baseDate}.
+     *
+     * @param meetingDensity the fraction of persons with a meeting, between 0 and 1, inclusive.
+     */
+    public PersonGenerator(long seed, LocalDate baseDate, double meetingDensity) {
+        checkArgument(meetingDensity >= 0 && meetingDensity <= 1, "Meeting density must be between 0 and 1");
+        this.random = new Random(seed);
+        this.baseDate = baseDate;
+        this.meetingDensity = meetingDensity;
+        this.firstPhoneIndex = random.nextInt(MAX_PERSONS);
+    }
+
+    /**
+     * Creates a {@code PersonGenerator} whose persons have meetings around {@code baseDate}, with the
+     * {@link #DEFAULT_MEETING_DENSITY}.
+     */
+    public PersonGenerator(long seed, LocalDate baseDate) {
+        this(seed, baseDate, DEFAULT_MEETING_DENSITY);
+    }
+
+    /**
+     * Returns the next generated person.
+     *
+     * @throws IllegalArgumentException if {@link #MAX_PERSONS} persons have already been generated.
+     */
+    public Person generatePerson() {
+        checkArgument(generatedCount < MAX_PERSONS, MESSAGE_TOO_MANY_PERSONS);
+        int phoneIndex = (int) ((firstPhoneIndex + (long) generatedCount * PHONE_STEP) % MAX_PERSONS);
+        generatedCount++;
+
+        String firstName = pickSkewed(FIRST_NAMES);
+        String lastName = pickSkewed(LAST_NAMES);
+        Name name = new Name(firstName + " " + lastName);
+        Phone phone = new Phone(String.valueOf(FIRST_PHONE + phoneIndex));
+        Email email = new Email(firstName.toLowerCase() + "." + lastName.toLowerCase() + random.nextInt(1000)
+                + "@" + pick(EMAIL_DOMAINS));
+        Address address = new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(STREETS) + " "
+                + (1 + random.nextInt(99)) + ", #" + String.format("%02d-%02d", 2 + random.nextInt(24),
+                        1 + random.nextInt(199)));
+        return new Person(name, phone, email, address, generateTags(), generateMeeting(), generateRemark());
+    }
+
+    /**
+     * Returns the next {@code count} generated persons, which are only generated as the stream is consumed.
+     */
+    public Stream<Person> generatePersons(int count) {
+        checkArgument(count >= 0, "Count must not be negative");
+        return Stream.generate(this::generatePerson).limit(count);
+    }
+
+    /**
+     * Returns an address book with the next {@code count} generated persons.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons(count).collect(Collectors.toList()));
+        return addressBook;
+    }
+
+    private Set<Tag> generateTags() {
+        int tagCount = pickWeighted(TAG_COUNT_WEIGHTS);
+        Set<Tag> tags = new HashSet<>();
+        while (tags.size() < tagCount) {
+            tags.add(new Tag(pickSkewed(TAGS)));
+        }
+        return tags;
+    }
+
+    private Optional<Meeting> generateMeeting() {
+        if (random.nextDouble() >= meetingDensity) {
+            return Optional.empty();
+        }
+        int dayOffset = random.nextInt(2 * MEETING_DAYS_AROUND_BASE_DATE + 1) - MEETING_DAYS_AROUND_BASE_DATE;
+        LocalDateTime start = baseDate.plusDays(dayOffset)
+                .atTime(FIRST_MEETING_HOUR + random.nextInt(MEETING_HOURS_PER_DAY), random.nextBoolean() ? 0 : 30);
+        LocalDateTime end = start.plusMinutes(30 + 30 * random.nextInt(4));
+        return Optional.of(new Meeting(start, end, pick(MEETING_REMARKS)));
+    }
+
+    private Optional<Remark> generateRemark() {
+        return random.nextDouble() < REMARK_DENSITY ? Optional.of(new Remark(pick(REMARKS))) : Optional.empty();
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Returns one of {@code values}, where earlier values are more likely to be returned than later ones.
+     */
+    private String pickSkewed(String[] values) {
+        double uniform = random.nextDouble();
+        return values[(int) (uniform * uniform * values.length)];
+    }
+
+    /**
+     * Returns an index of {@code weights}, where each index is returned with a likelihood proportional to its weight.
+     */
+    private int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int target = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            target -= weights[i];
+            if (target < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+}
@@ -1,9 +1,12 @@
 package seedu.findvisor.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
 
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 
@@ -30,6 +33,16 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also records the phases of reading the data, if the storage
+     * has any, in {@code tracer}. Used to break down the time taken to read the data file at startup.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, StartupTracer tracer)
+            throws DataLoadingException {
+        requireNonNull(tracer);
+        return readAddressBook(filePath);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +55,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Releases the files held open by the storage, if any. The storage must not be used afterwards.
+     * @throws IOException if there was any problem closing the files.
+     */
+    default void close() throws IOException {
+    }
+
 }
@@ -0,0 +1,122 @@
+package seedu.findvisor.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.ReadOnlyUserPrefs;
+import seedu.findvisor.model.UserPrefs;
+
+/**
+ * A {@code Storage} that defers saving of the address book to its default file until {@link #flush()} is called.
+ * Used when executing many commands in a row, so that the address book is written once instead of once per command.
+ * All other operations are passed through to the wrapped {@code Storage}.
+ */
+public class DeferredSaveStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(DeferredSaveStorage.class);
+
+    private final Storage storage;
+    private ReadOnlyAddressBook pendingAddressBook;
+    private int saveCount;
+
+    /**
+     * Creates a {@code DeferredSaveStorage} that defers saves to the given {@code storage}.
+     */
+    public DeferredSaveStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Returns true if there is an address book that has not been written to the storage yet.
+     */
+    public boolean hasPendingSave() {
+        return pendingAddressBook != null;
+    }
+
+    /**
+     * Returns the number of times the address book has actually been written to the storage.
+     */
+    public int getSaveCount() {
+        return saveCount;
+    }
+
+    /**
+     * Writes a snapshot of the address book from the latest call to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * to the storage, if it has not been written yet.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    public void flush() throws IOException {
+        if (pendingAddressBook == null) {
+            return;
+        }
+
+        logger.fine(() -> "Flushing deferred save to data file: " + getAddressBookFilePath());
+        storage.saveAddressBook(pendingAddressBook.getSnapshot());
+        pendingAddressBook = null;
+        saveCount++;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Records {@code addressBook} to be written to the storage on the next {@link #flush()}, as it is then.
+     * No snapshot is taken until then, so that deferred saves do not copy the address book.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingAddressBook = addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+
+}
@@ -0,0 +1,405 @@
+package seedu.findvisor.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.exceptions.IllegalValueException;
+import seedu.findvisor.commons.util.DateTimeUtil;
+import seedu.findvisor.commons.util.FileUtil;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Meeting;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.exceptions.DuplicatePersonException;
+import seedu.findvisor.model.tag.Tag;
+import seedu.findvisor.model.util.InternPool;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * Persons, their tags and their meetings are kept in separate tables, indexed on phone and meeting start.
+ * Each save of the default file only writes the rows of persons that were added, edited or deleted
+ * since that file was last read or saved. <br>
+ * The default file is kept open between reads and saves until {@link #close()} is called, while other files are
+ * closed after every read or save.
+ */
+public class JdbcAddressBookStorage implements AddressBookStorage {
+
+    /** The extension that H2 gives to its database files. */
+    public static final String FILE_EXTENSION = ".mv.db";
+
+    private static final Logger logger = LogsCenter.getLogger(JdbcAddressBookStorage.class);
+
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS persons (seq BIGINT PRIMARY KEY, name VARCHAR NOT NULL, "
+                + "phone VARCHAR NOT NULL, email VARCHAR NOT NULL, address VARCHAR NOT NULL, "
+                + "remark VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS persons_phone ON persons(phone)",
+        "CREATE TABLE IF NOT EXISTS tags (person_seq BIGINT NOT NULL REFERENCES persons(seq) ON DELETE CASCADE, "
+                + "tag_name VARCHAR NOT NULL, PRIMARY KEY (person_seq, tag_name))",
+        "CREATE TABLE IF NOT EXISTS meetings (person_seq BIGINT PRIMARY KEY REFERENCES persons(seq) "
+                + "ON DELETE CASCADE, start_time TIMESTAMP NOT NULL, end_time TIMESTAMP NOT NULL, "
+                + "remark VARCHAR NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS meetings_start_time ON meetings(start_time)"
+    };
+
+    private static final String INSERT_PERSON =
+            "INSERT INTO persons (name, phone, email, address, remark, seq) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_PERSON =
+            "UPDATE persons SET name = ?, phone = ?, email = ?, address = ?, remark = ? WHERE seq = ?";
+    private static final String DELETE_PERSON = "DELETE FROM persons WHERE seq = ?";
+    private static final String DELETE_ALL_PERSONS = "DELETE FROM persons";
+    private static final String INSERT_TAG = "INSERT INTO tags (person_seq, tag_name) VALUES (?, ?)";
+    private static final String DELETE_TAGS = "DELETE FROM tags WHERE person_seq = ?";
+    private static final String INSERT_MEETING =
+            "INSERT INTO meetings (person_seq, start_time, end_time, remark) VALUES (?, ?, ?, ?)";
+    private static final String DELETE_MEETING = "DELETE FROM meetings WHERE person_seq = ?";
+    private static final String SELECT_PERSONS =
+            "SELECT seq, name, phone, email, address, remark FROM persons ORDER BY seq";
+    private static final String SELECT_TAGS = "SELECT person_seq, tag_name FROM tags";
+    private static final String SELECT_MEETINGS = "SELECT person_seq, start_time, end_time, remark FROM meetings";
+
+    private final Path filePath;
+
+    // The persons in the database at filePath as of the last read or save, with the seq of their rows.
+    // savedPersons is null if the content of the database is not known, e.g. after a failed save.
+    private SavedPersons savedPersons;
+    private int lastSaveWriteCount;
+    // The open connection to the default file, or null if it is not open
+    private Connection defaultFileConnection;
+
+    /**
+     * Creates a {@code JdbcAddressBookStorage} for the database file at {@code filePath}.
+     * {@link #FILE_EXTENSION} is added to {@code filePath} if it does not already end with it.
+     */
+    public JdbcAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = toDatabaseFile(filePath);
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of an H2 database file.
+     */
+    public static boolean isDatabaseFile(Path filePath) {
+        return filePath.toString().endsWith(FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the number of persons inserted, updated or deleted by the last save of the default file.
+     */
+    int getLastSaveWriteCount() {
+        return lastSaveWriteCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Path databaseFile = toDatabaseFile(filePath);
+        if (!FileUtil.isFileExists(databaseFile)) {
+            return Optional.empty();
+        }
+
+        boolean isDefaultFile = databaseFile.equals(this.filePath);
+        try {
+            Connection connection = getConnection(databaseFile);
+            try {
+                createSchema(connection);
+                AddressBook addressBook = new AddressBook();
+                List<Long> seqs = new ArrayList<>();
+                List<Person> persons = readPersons(connection, seqs, addressBook.getInternPool());
+                addressBook.setPersons(persons);
+                if (isDefaultFile) {
+                    savedPersons = new SavedPersons(persons, seqs);
+                }
+                return Optional.of(addressBook);
+            } finally {
+                releaseConnection(connection);
+            }
+        } catch (SQLException | IllegalValueException | DuplicatePersonException e) {
+            logger.info(() -> "Failed to read " + databaseFile + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the default file is updated incrementally, other files are always rewritten in full.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        Path databaseFile = toDatabaseFile(filePath);
+        List<Person> persons = addressBook.getSnapshot().getPersons();
+        boolean isDefaultFile = databaseFile.equals(this.filePath);
+
+        FileUtil.createParentDirsOfFile(databaseFile);
+        try {
+            Connection connection = getConnection(databaseFile);
+            try {
+                connection.setAutoCommit(false);
+                createSchema(connection);
+                if (isDefaultFile && savedPersons != null && writeChanges(connection, persons)) {
+                    connection.commit();
+                    return;
+                }
+                SavedPersons writtenPersons = writeAll(connection, persons);
+                connection.commit();
+                if (isDefaultFile) {
+                    lastSaveWriteCount = persons.size();
+                    savedPersons = writtenPersons;
+                }
+            } catch (SQLException e) {
+                connection.rollback();
+                if (isDefaultFile) {
+                    savedPersons = null;
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(true);
+                releaseConnection(connection);
+            }
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the differences between {@code savedPersons} and {@code persons} to the database.
+     * Returns false without writing anything if the rows cannot be kept in the order of {@code persons},
+     * in which case the database should be rewritten in full.
+     */
+    private boolean writeChanges(Connection connection, List<Person> persons) throws SQLException {
+        Optional<SavedPersons.Changes> optionalChanges = savedPersons.getChangesTo(persons);
+        if (!optionalChanges.isPresent()) {
+            return false;
+        }
+
+        SavedPersons.Changes changes = optionalChanges.get();
+        try (PreparedStatement deletePerson = connection.prepareStatement(DELETE_PERSON)) {
+            for (Person deletedPerson : changes.getDeletedPersons()) {
+                deletePerson.setLong(1, savedPersons.getSeq(deletedPerson));
+                deletePerson.addBatch();
+            }
+            deletePerson.executeBatch();
+        }
+        writePersons(connection, UPDATE_PERSON, changes.getUpdatedPersons(), changes.getSavedPersons(), true);
+        writePersons(connection, INSERT_PERSON, changes.getInsertedPersons(), changes.getSavedPersons(), false);
+
+        lastSaveWriteCount = changes.size();
+        logger.fine(() -> "Saved " + lastSaveWriteCount + " changed person(s) to " + filePath);
+        savedPersons = changes.getSavedPersons();
+        return true;
+    }
+
+    /**
+     * Replaces all rows in the database with {@code persons}, numbered from 0.
+     */
+    private SavedPersons writeAll(Connection connection, List<Person> persons) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(DELETE_ALL_PERSONS);
+        }
+        SavedPersons writtenPersons = new SavedPersons(persons, null);
+        writePersons(connection, INSERT_PERSON, persons, writtenPersons, false);
+        return writtenPersons;
+    }
+
+    /**
+     * Writes the rows of {@code persons} with the person statement {@code personSql}, which must take the
+     * person fields followed by the seq of the row in {@code seqs}. Existing tag and meeting rows are deleted first if
+     * {@code isUpdate} is true.
+     */
+    private static void writePersons(Connection connection, String personSql, List<Person> persons,
+            SavedPersons seqs, boolean isUpdate) throws SQLException {
+        if (persons.isEmpty()) {
+            return;
+        }
+
+        try (PreparedStatement writePerson = connection.prepareStatement(personSql);
+                PreparedStatement deleteTags = connection.prepareStatement(DELETE_TAGS);
+                PreparedStatement deleteMeeting = connection.prepareStatement(DELETE_MEETING);
+                PreparedStatement insertTag = connection.prepareStatement(INSERT_TAG);
+                PreparedStatement insertMeeting = connection.prepareStatement(INSERT_MEETING)) {
+            for (Person person : persons) {
+                long seq = seqs.getSeq(person);
+                writePerson.setString(1, person.getName().fullName);
+                writePerson.setString(2, person.getPhone().value);
+                writePerson.setString(3, person.getEmail().value);
+                writePerson.setString(4, person.getAddress().value);
+                writePerson.setString(5, person.getRemark().map(remark -> remark.value).orElse(""));
+                writePerson.setLong(6, seq);
+                writePerson.addBatch();
+
+                if (isUpdate) {
+                    deleteTags.setLong(1, seq);
+                    deleteTags.addBatch();
+                    deleteMeeting.setLong(1, seq);
+                    deleteMeeting.addBatch();
+                }
+                for (Tag tag : person.getTags()) {
+                    insertTag.setLong(1, seq);
+                    insertTag.setString(2, tag.tagName);
+                    insertTag.addBatch();
+                }
+                Optional<Meeting> meeting = person.getMeeting();
+                if (meeting.isPresent()) {
+                    insertMeeting.setLong(1, seq);
+                    insertMeeting.setTimestamp(2, Timestamp.valueOf(meeting.get().getStart()));
+                    insertMeeting.setTimestamp(3, Timestamp.valueOf(meeting.get().getEnd()));
+                    insertMeeting.setString(4, meeting.get().getRemark());
+                    insertMeeting.addBatch();
+                }
+            }
+            writePerson.executeBatch();
+            deleteTags.executeBatch();
+            deleteMeeting.executeBatch();
+            insertTag.executeBatch();
+            insertMeeting.executeBatch();
+        }
+    }
+
+    /**
+     * Reads all persons in the database in order, adding the seq of each person's row to {@code seqs}.
+     * The data is validated in the same way as the JSON data file, and repeated field values are shared through
+     * {@code internPool}.
+     */
+    private static List<Person> readPersons(Connection connection, List<Long> seqs, InternPool internPool)
+            throws SQLException, IllegalValueException {
+        Map<Long, List<JsonAdaptedTag>> tagsBySeq = new HashMap<>();
+        Map<Long, JsonAdaptedMeeting> meetingsBySeq = new HashMap<>();
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet tags = statement.executeQuery(SELECT_TAGS)) {
+                while (tags.next()) {
+                    tagsBySeq.computeIfAbsent(tags.getLong(1), seq -> new ArrayList<>())
+                            .add(new JsonAdaptedTag(tags.getString(2)));
+                }
+            }
+            try (ResultSet meetings = statement.executeQuery(SELECT_MEETINGS)) {
+                while (meetings.next()) {
+                    meetingsBySeq.put(meetings.getLong(1), new JsonAdaptedMeeting(
+                            DateTimeUtil.dateTimeToInputString(meetings.getTimestamp(2).toLocalDateTime()),
+                            DateTimeUtil.dateTimeToInputString(meetings.getTimestamp(3).toLocalDateTime()),
+                            meetings.getString(4)));
+                }
+            }
+
+            List<Person> persons = new ArrayList<>();
+            try (ResultSet rows = statement.executeQuery(SELECT_PERSONS)) {
+                while (rows.next()) {
+                    long seq = rows.getLong(1);
+                    JsonAdaptedMeeting meeting = meetingsBySeq.getOrDefault(seq,
+                            new JsonAdaptedMeeting(Optional.empty()));
+                    persons.add(new JsonAdaptedPerson(rows.getString(2), rows.getString(3), rows.getString(4),
+                            rows.getString(5), meeting, rows.getString(6),
+                            tagsBySeq.getOrDefault(seq, List.of())).toModelType(internPool));
+                    seqs.add(seq);
+                }
+            }
+            return persons;
+        }
+    }
+
+    private static void createSchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Closes the default file, if it is open. The storage opens it again if it is used afterwards.
+     *
+     * @throws IOException if the database could not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        if (defaultFileConnection == null) {
+            return;
+        }
+        try {
+            defaultFileConnection.close();
+        } catch (SQLException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            defaultFileConnection = null;
+        }
+        logger.fine(() -> "Closed " + filePath);
+    }
+
+    /**
+     * Returns a connection to the database at {@code databaseFile}, which must be passed to
+     * {@link #releaseConnection(Connection)} once it is no longer used. The connection to the default file is opened
+     * once and kept open until {@link #close()} is called, so that every save does not have to open the file again.
+     */
+    private Connection getConnection(Path databaseFile) throws SQLException {
+        if (!databaseFile.equals(filePath)) {
+            return openConnection(databaseFile);
+        }
+        if (defaultFileConnection == null || defaultFileConnection.isClosed()) {
+            defaultFileConnection = openConnection(databaseFile);
+        }
+        return defaultFileConnection;
+    }
+
+    /**
+     * Closes {@code connection} unless it is the connection to the default file, which is closed by {@link #close()}.
+     * H2 closes a database when its last connection is closed.
+     */
+    private void releaseConnection(Connection connection) throws SQLException {
+        if (connection != defaultFileConnection) {
+            connection.close();
+        }
+    }
+
+    private static Connection openConnection(Path databaseFile) throws SQLException {
+        String databasePath = databaseFile.toAbsolutePath().toString();
+        String databaseName = databasePath.substring(0, databasePath.length() - FILE_EXTENSION.length());
+        return DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+    }
+
+    private static Path toDatabaseFile(Path filePath) {
+        return isDatabaseFile(filePath) ? filePath : Paths.get(filePath + FILE_EXTENSION);
+    }
+
+}
@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.commons.util.DateTimeUtil;
 import seedu.findvisor.model.person.Meeting;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * Jackson-friendly version of {@link Meeting}.
@@ -47,6 +48,17 @@ class JsonAdaptedMeeting {
      *      meeting.
      */
     public Optional<Meeting> toModelType() throws IllegalValueException {
+        return toModelType(new InternPool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted meeting object into the model's {@code Meeting} object,
+     * sharing the remark with other meetings through {@code internPool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted
+     *      meeting.
+     */
+    public Optional<Meeting> toModelType(InternPool internPool) throws IllegalValueException {
         if (start == "" || end == "") {
             return Optional.empty();
         }
@@ -59,7 +71,7 @@ class JsonAdaptedMeeting {
             if (!Meeting.isValidRemark(remark)) {
                 throw new IllegalValueException(Meeting.MESSAGE_REMARK_CONSTRAINTS);
             }
-            return Optional.of(new Meeting(start, end, remark));
+            return Optional.of(new Meeting(start, end, internPool.intern(remark)));
         } catch (DateTimeParseException e) {
             throw new IllegalValueException(Meeting.MESSAGE_DATETIME_CONSTRAINTS);
         }
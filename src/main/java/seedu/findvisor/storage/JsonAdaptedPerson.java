@@ -20,11 +20,12 @@ import seedu.findvisor.model.person.Person;
 import seedu.findvisor.model.person.Phone;
 import seedu.findvisor.model.person.Remark;
 import seedu.findvisor.model.tag.Tag;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * Jackson-friendly version of {@link Person}.
  */
-class JsonAdaptedPerson {
+public class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
@@ -76,9 +77,19 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new InternPool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The address, remark, tags and meeting remark are shared with other persons through {@code internPool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(InternPool internPool) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toModelType(internPool));
         }
 
         if (name == null) {
@@ -111,7 +122,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = new Address(internPool.intern(address));
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -122,10 +133,10 @@ class JsonAdaptedPerson {
         if (remark == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Remark.class.getSimpleName()));
         }
-        final Optional<Remark> modelRemark = ParserUtil.parseRemark(remark);
+        final Optional<Remark> modelRemark = ParserUtil.parseRemark(internPool.intern(remark));
 
         return new Person(modelName, modelPhone, modelEmail, modelAddress,
-                modelTags, meeting.toModelType(), modelRemark);
+                modelTags, meeting.toModelType(internPool), modelRemark);
     }
 
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonValue;
 
 import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.model.tag.Tag;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * Jackson-friendly version of {@link Tag}.
@@ -39,10 +40,20 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
+        return toModelType(new InternPool());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tag object into the model's {@code Tag} object,
+     * sharing the tag in {@code internPool} if it has one with the same name.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
+     */
+    public Tag toModelType(InternPool internPool) throws IllegalValueException {
         if (!Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return internPool.internTag(tagName);
     }
 
 }
@@ -1,18 +1,31 @@
 package seedu.findvisor.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.findvisor.commons.util.AppUtil.checkArgument;
+import static seedu.findvisor.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
 import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.commons.util.FileUtil;
+import seedu.findvisor.commons.util.JsonFileFormat;
 import seedu.findvisor.commons.util.JsonUtil;
 import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.Phone;
+import seedu.findvisor.model.util.InternPool;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +35,20 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private JsonFileFormat fileFormat;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, JsonFileFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} that saves to {@code filePath} in the given {@code fileFormat}.
+     * Files in any format can be read.
+     */
+    public JsonAddressBookStorage(Path filePath, JsonFileFormat fileFormat) {
+        requireNonNull(fileFormat);
         this.filePath = filePath;
+        this.fileFormat = fileFormat;
     }
 
     public Path getAddressBookFilePath() {
@@ -44,21 +68,69 @@ public class JsonAddressBookStorage implements AddressBookStorage {
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
+        return readTracedAddressBook(filePath, null);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also records the "json parse", "to model type" and
+     * "uniqueness check" phases of reading the data in {@code tracer}.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, StartupTracer tracer)
+            throws DataLoadingException {
+        requireAllNonNull(filePath, tracer);
+        return readTracedAddressBook(filePath, tracer);
+    }
 
+    /**
+     * Reads the data at {@code filePath}, recording the phases of reading it in {@code tracer} unless it is null.
+     */
+    private Optional<ReadOnlyAddressBook> readTracedAddressBook(Path filePath, StartupTracer tracer)
+            throws DataLoadingException {
+        long startTime = System.nanoTime();
         Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
                 filePath, JsonSerializableAddressBook.class);
+        if (tracer != null) {
+            tracer.record("json parse", startTime, System.nanoTime() - startTime);
+        }
         if (!jsonAddressBook.isPresent()) {
             return Optional.empty();
         }
 
+        startTime = System.nanoTime();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(jsonAddressBook.get().toModelType(tracer));
         } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            logger.info(() -> "Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            if (tracer != null) {
+                tracer.record("to model type", startTime, System.nanoTime() - startTime);
+            }
         }
     }
 
+    /**
+     * Reads the persons in the data file in batches of {@code batchSize}, passing each batch to {@code batchHandler}
+     * as soon as it has been read, so that the first persons can be used before the whole file has been read.
+     * Only the last batch may be smaller. Repeated field values are shared through {@code internPool}.
+     *
+     * @return false if the data file is not found.
+     * @throws DataLoadingException if loading the data failed. The batches read before the failure have already been
+     *     passed to {@code batchHandler}.
+     */
+    public boolean readPersons(InternPool internPool, int batchSize, Consumer<List<Person>> batchHandler)
+            throws DataLoadingException {
+        requireAllNonNull(internPool, batchHandler);
+        checkArgument(batchSize > 0, "Batch size must be positive");
+
+        PersonBatcher batcher = new PersonBatcher(internPool, batchSize, batchHandler);
+        boolean isFound = JsonUtil.readJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD_NAME,
+                JsonAdaptedPerson.class, batcher);
+        batcher.flush();
+        return isFound;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +145,64 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, fileFormat);
+    }
+
+    /**
+     * Saves the {@code persons} to the data file, replacing any data in it. Unlike
+     * {@link #saveAddressBook(ReadOnlyAddressBook)}, each person is written as soon as the stream produces it, so
+     * a data file of any size can be written without holding all of its persons in memory.
+     * The persons are not checked for duplicates.
+     */
+    public void savePersons(Stream<Person> persons) throws IOException {
+        requireNonNull(persons);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, JsonSerializableAddressBook.PERSONS_FIELD_NAME,
+                persons.map(JsonAdaptedPerson::new).iterator(), fileFormat);
+    }
+
+    /**
+     * Converts the persons read from the data file into the model's {@code Person} objects, checking for duplicates,
+     * and passes them on in batches.
+     */
+    private static class PersonBatcher implements JsonUtil.ElementHandler<JsonAdaptedPerson> {
+        private final InternPool internPool;
+        private final int batchSize;
+        private final Consumer<List<Person>> batchHandler;
+        private final Set<Phone> phones = new HashSet<>();
+        private List<Person> batch;
+
+        PersonBatcher(InternPool internPool, int batchSize, Consumer<List<Person>> batchHandler) {
+            this.internPool = internPool;
+            this.batchSize = batchSize;
+            this.batchHandler = batchHandler;
+            batch = new ArrayList<>(batchSize);
+        }
+
+        @Override
+        public void handle(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+            Person person = jsonAdaptedPerson.toModelType(internPool);
+            if (!phones.add(person.getPhone())) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            batch.add(person);
+            if (batch.size() == batchSize) {
+                flush();
+            }
+        }
+
+        /**
+         * Passes on the persons that have not been passed on yet, if any.
+         */
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            batchHandler.accept(batch);
+            batch = new ArrayList<>(batchSize);
+        }
     }
 
 }
@@ -0,0 +1,80 @@
+package seedu.findvisor.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.findvisor.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly manifest of a segmented address book, describing how its persons are split into segments,
+ * and which version of the file of each segment holds its persons.
+ */
+class JsonSegmentManifest {
+
+    public static final String MESSAGE_INVALID_SEGMENT_COUNT = "Manifest's segment count must be positive.";
+    public static final String MESSAGE_INVALID_PERSON_COUNT = "Manifest's person count must not be negative.";
+    public static final String MESSAGE_INVALID_SEGMENT_VERSIONS =
+            "Manifest must have a non-negative version for each segment.";
+
+    private final int segmentCount;
+    private final int personCount;
+    private final List<Long> segmentVersions;
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} for {@code personCount} persons in {@code segmentCount} segments
+     * whose files are not versioned, as written by earlier versions of the app.
+     */
+    public JsonSegmentManifest(int segmentCount, int personCount) {
+        this(segmentCount, personCount, null);
+    }
+
+    /**
+     * Constructs a {@code JsonSegmentManifest} for {@code personCount} persons in {@code segmentCount} segments,
+     * where {@code segmentVersions} has the version of the file of each segment, or 0 if the segment is empty.
+     */
+    @JsonCreator
+    public JsonSegmentManifest(@JsonProperty("segmentCount") int segmentCount,
+            @JsonProperty("personCount") int personCount,
+            @JsonProperty("segmentVersions") List<Long> segmentVersions) {
+        this.segmentCount = segmentCount;
+        this.personCount = personCount;
+        this.segmentVersions = segmentVersions;
+    }
+
+    /**
+     * Checks that the counts in this manifest are valid.
+     *
+     * @throws IllegalValueException if any count is invalid.
+     */
+    public void validate() throws IllegalValueException {
+        if (segmentCount <= 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_COUNT);
+        }
+        if (personCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_PERSON_COUNT);
+        }
+        if (segmentVersions != null && (segmentVersions.size() != segmentCount
+                || segmentVersions.stream().anyMatch(version -> version == null || version < 0))) {
+            throw new IllegalValueException(MESSAGE_INVALID_SEGMENT_VERSIONS);
+        }
+    }
+
+    public int getSegmentCount() {
+        return segmentCount;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    /**
+     * Returns the version of the file of each segment, or 0 for an empty segment, or null if the segment files are
+     * not versioned.
+     */
+    public List<Long> getSegmentVersions() {
+        return segmentVersions;
+    }
+
+}
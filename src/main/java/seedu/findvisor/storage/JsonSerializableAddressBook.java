@@ -8,6 +8,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.model.AddressBook;
 import seedu.findvisor.model.ReadOnlyAddressBook;
@@ -21,13 +22,15 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    static final String PERSONS_FIELD_NAME = "persons";
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty(PERSONS_FIELD_NAME) List<JsonAdaptedPerson> persons) {
         this.persons.addAll(persons);
     }
 
@@ -42,18 +45,36 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Repeated field values are shared through the intern pool of the new address book.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        return toModelType(null);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but also records the time taken to check for duplicate persons as the
+     * "uniqueness check" phase of {@code tracer}, unless it is null.
+     */
+    AddressBook toModelType(StartupTracer tracer) throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
+        long startTime = System.nanoTime();
+        // The time taken to check for duplicates is summed over all persons, to be recorded as one phase
+        long uniquenessCheckNanos = 0;
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            Person person = jsonAdaptedPerson.toModelType(addressBook.getInternPool());
+            long checkStartTime = System.nanoTime();
+            boolean isDuplicate = addressBook.hasPerson(person);
+            uniquenessCheckNanos += System.nanoTime() - checkStartTime;
+            if (isDuplicate) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
         }
+        if (tracer != null) {
+            tracer.record("uniqueness check", startTime, uniquenessCheckNanos);
+        }
         return addressBook;
     }
 
@@ -0,0 +1,74 @@
+package seedu.findvisor.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.findvisor.commons.exceptions.IllegalValueException;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.util.InternPool;
+
+/**
+ * One segment of a segmented address book that is serializable to JSON format.
+ * Each person is stored with the sequence number that orders it among the persons of all segments.
+ */
+class JsonSerializableSegment {
+
+    public static final String MESSAGE_MISMATCHED_SEQS = "Segment has %d sequence number(s) for %d person(s).";
+
+    private final List<Long> seqs = new ArrayList<>();
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableSegment} with the given persons and their sequence numbers.
+     */
+    @JsonCreator
+    public JsonSerializableSegment(@JsonProperty("seqs") List<Long> seqs,
+            @JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+        if (seqs != null) {
+            this.seqs.addAll(seqs);
+        }
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+    }
+
+    /**
+     * Converts the given {@code persons} into this class for Jackson use, with the sequence numbers in
+     * {@code savedPersons}.
+     */
+    public JsonSerializableSegment(List<Person> persons, SavedPersons savedPersons) {
+        for (Person person : persons) {
+            seqs.add(savedPersons.getSeq(person));
+            this.persons.add(new JsonAdaptedPerson(person));
+        }
+    }
+
+    /**
+     * Returns the sequence numbers of the persons in this segment.
+     */
+    public List<Long> getSeqs() {
+        return seqs;
+    }
+
+    /**
+     * Converts the persons in this segment into the model's {@code Person} objects,
+     * sharing repeated field values through {@code internPool}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public List<Person> toModelType(InternPool internPool) throws IllegalValueException {
+        if (seqs.size() != persons.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISMATCHED_SEQS, seqs.size(), persons.size()));
+        }
+
+        List<Person> modelPersons = new ArrayList<>();
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType(internPool));
+        }
+        return modelPersons;
+    }
+
+}
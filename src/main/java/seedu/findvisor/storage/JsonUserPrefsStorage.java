@@ -39,9 +39,13 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
         return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
     }
 
+    /**
+     * {@inheritDoc}
+     * The file is not written if it already holds the same preferences.
+     */
     @Override
     public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
-        JsonUtil.saveJsonFile(userPrefs, filePath);
+        JsonUtil.saveJsonFileIfChanged(userPrefs, filePath);
     }
 
 }
@@ -0,0 +1,269 @@
+package seedu.findvisor.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.core.StartupTracer;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.StringUtil;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.ReadOnlyUserPrefs;
+import seedu.findvisor.model.UserPrefs;
+
+/**
+ * A {@code Storage} that watches the address book file for changes made by other programs, e.g. a sync tool
+ * replacing the file. When the file changes, it is read on a background thread and the new address book is
+ * passed to the change handler. Saves made through this storage are not reported as changes, and a handler that
+ * applies the change later should first check {@link #isLatestReload} to skip changes that a save has replaced.
+ * All other operations are passed through to the wrapped {@code Storage}.
+ */
+public class LiveReloadStorage implements Storage {
+
+    /** Time to wait after a change for the other program to finish writing the file. */
+    private static final long SETTLE_DELAY_MILLIS = 200;
+
+    private static final Logger logger = LogsCenter.getLogger(LiveReloadStorage.class);
+
+    private final Storage storage;
+    private final Consumer<ReadOnlyAddressBook> changeHandler;
+    private final Path filePath;
+    private final Object fileLock = new Object();
+
+    // The size, modification time and file key of the address book file as last written or read by this storage,
+    // or null if the file did not exist.
+    private List<Object> knownFileState;
+    // The address book most recently read after an external change, until the file is next saved by this storage
+    private ReadOnlyAddressBook latestReload;
+    private WatchService watchService;
+    private Thread watchThread;
+
+    /**
+     * Creates a {@code LiveReloadStorage} that reports external changes to the address book file of
+     * {@code storage} to {@code changeHandler}. The handler is called on the watching thread.
+     */
+    public LiveReloadStorage(Storage storage, Consumer<ReadOnlyAddressBook> changeHandler) {
+        requireNonNull(storage);
+        requireNonNull(changeHandler);
+        this.storage = storage;
+        this.changeHandler = changeHandler;
+        this.filePath = storage.getAddressBookFilePath().toAbsolutePath();
+    }
+
+    /**
+     * Starts watching the address book file. The current content of the file is assumed to be already loaded.
+     *
+     * @throws IOException if the folder of the file could not be watched.
+     */
+    public void startWatching() throws IOException {
+        Path folder = filePath.getParent();
+        Files.createDirectories(folder);
+        synchronized (fileLock) {
+            knownFileState = readFileState();
+        }
+
+        watchService = FileSystems.getDefault().newWatchService();
+        folder.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        watchThread = new Thread(this::watch, "data-file-watcher");
+        watchThread.setDaemon(true);
+        watchThread.start();
+        logger.info(() -> "Watching data file for external changes: " + filePath);
+    }
+
+    /**
+     * Stops watching the address book file.
+     */
+    public void stopWatching() {
+        if (watchService == null) {
+            return;
+        }
+
+        watchThread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning(() -> "Failed to stop watching data file: " + StringUtil.getDetails(e));
+        }
+        watchService = null;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!isDataFileChanged(watchService.take())) {
+                    continue;
+                }
+
+                // Let the other program finish writing, and skip the events caused by the rest of its writes
+                Thread.sleep(SETTLE_DELAY_MILLIS);
+                WatchKey laterKey;
+                while ((laterKey = watchService.poll()) != null) {
+                    isDataFileChanged(laterKey);
+                }
+                reloadIfChangedExternally();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // stopped watching
+        }
+    }
+
+    /**
+     * Returns true if any event of {@code key} is about the address book file, and resets {@code key}.
+     */
+    private boolean isDataFileChanged(WatchKey key) {
+        boolean isDataFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isDataFileChanged |= filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isDataFileChanged;
+    }
+
+    /**
+     * Reads the address book file and passes it to the change handler if it was not written by this storage.
+     * The file is read without holding {@code fileLock}, so that saves are not blocked while it is parsed.
+     */
+    void reloadIfChangedExternally() {
+        List<Object> fileState;
+        synchronized (fileLock) {
+            fileState = readFileState();
+            if (fileState == null || fileState.equals(knownFileState)) {
+                return;
+            }
+        }
+
+        logger.info(() -> "Data file was changed externally, reloading: " + filePath);
+        Optional<ReadOnlyAddressBook> newData;
+        try {
+            newData = storage.readAddressBook();
+        } catch (DataLoadingException e) {
+            logger.warning(() -> "Externally changed data file could not be loaded, keeping the current data: "
+                    + StringUtil.getDetails(e));
+            newData = Optional.empty();
+        }
+
+        synchronized (fileLock) {
+            // If the file was replaced while it was read, by a save or another external change, what was read is
+            // already out of date. A save needs no reload, and another external change is reloaded after its event.
+            if (!fileState.equals(readFileState())) {
+                logger.info(() -> "Data file changed again while it was reloaded, discarding the reloaded data");
+                return;
+            }
+            knownFileState = fileState;
+            latestReload = newData.orElse(null);
+        }
+        newData.ifPresent(changeHandler);
+    }
+
+    /**
+     * Returns true if {@code reloadedAddressBook}, passed to the change handler, is still the latest content of the
+     * address book file, i.e. the file has not been saved or reloaded since. The change handler may merge the
+     * address book later on another thread, and should check this first, as merging an address book that a save
+     * has since replaced would undo the changes that were saved.
+     */
+    public boolean isLatestReload(ReadOnlyAddressBook reloadedAddressBook) {
+        synchronized (fileLock) {
+            return reloadedAddressBook != null && reloadedAddressBook == latestReload;
+        }
+    }
+
+    /**
+     * Returns the size, modification time and file key of the address book file, or null if it does not exist.
+     * A file replaced by another program almost always differs from the previous file in at least one of these.
+     */
+    private List<Object> readFileState() {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            return List.of(attributes.size(), attributes.lastModifiedTime(), String.valueOf(attributes.fileKey()));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, StartupTracer tracer)
+            throws DataLoadingException {
+        return storage.readAddressBook(filePath, tracer);
+    }
+
+    /**
+     * Saves {@code addressBook} to the address book file, remembering the written file so that the write is not
+     * mistaken for an external change.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        synchronized (fileLock) {
+            storage.saveAddressBook(addressBook);
+            knownFileState = readFileState();
+            latestReload = null;
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (!filePath.toAbsolutePath().equals(this.filePath)) {
+            storage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        synchronized (fileLock) {
+            storage.saveAddressBook(addressBook, filePath);
+            knownFileState = readFileState();
+            latestReload = null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        storage.close();
+    }
+
+}
@@ -0,0 +1,171 @@
+package seedu.findvisor.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.findvisor.model.person.Person;
+
+/**
+ * The persons in a data file as of its last read or save, each with a sequence number that orders it in the file.
+ * Used by storages that only write the persons that were added, edited or deleted since the last save.
+ * Persons are tracked by identity, as the model replaces a person with a new instance whenever it is edited.
+ */
+class SavedPersons {
+
+    private final List<Person> persons;
+    private final Map<Person, Long> seqs;
+    private final long nextSeq;
+
+    /**
+     * Creates a {@code SavedPersons} of {@code persons} with the sequence numbers in {@code seqs},
+     * or numbered from 0 if {@code seqs} is null.
+     */
+    SavedPersons(List<Person> persons, List<Long> seqs) {
+        requireNonNull(persons);
+        this.persons = List.copyOf(persons);
+        this.seqs = new IdentityHashMap<>();
+        long nextSeq = 0;
+        for (int i = 0; i < persons.size(); i++) {
+            long seq = seqs == null ? i : seqs.get(i);
+            this.seqs.put(persons.get(i), seq);
+            nextSeq = Math.max(nextSeq, seq + 1);
+        }
+        this.nextSeq = nextSeq;
+    }
+
+    private SavedPersons(List<Person> persons, Map<Person, Long> seqs, long nextSeq) {
+        this.persons = List.copyOf(persons);
+        this.seqs = seqs;
+        this.nextSeq = nextSeq;
+    }
+
+    /**
+     * Returns the sequence number of {@code person}, which must be one of the saved persons.
+     */
+    long getSeq(Person person) {
+        Long seq = seqs.get(person);
+        assert seq != null;
+        return seq;
+    }
+
+    /**
+     * Returns the changes that turn the saved persons into {@code currentPersons}.
+     * New persons that replace a deleted person at the same position are treated as edits of that person and
+     * reuse its sequence number, so edited persons keep their position. Returns an empty {@code Optional} if the
+     * order of {@code currentPersons} cannot be kept this way, in which case the data file should be rewritten
+     * in full.
+     */
+    Optional<Changes> getChangesTo(List<Person> currentPersons) {
+        Set<Person> currentPersonSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        currentPersonSet.addAll(currentPersons);
+        Set<Person> replacedPersonSet = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Map<Person, Long> currentSeqs = new IdentityHashMap<>();
+        List<Person> insertedPersons = new ArrayList<>();
+        List<Person> updatedPersons = new ArrayList<>();
+        List<Person> replacedPersons = new ArrayList<>();
+        long seqOfNewPerson = nextSeq;
+        long previousSeq = Long.MIN_VALUE;
+        for (int i = 0; i < currentPersons.size(); i++) {
+            Person person = currentPersons.get(i);
+            Long seq = seqs.get(person);
+            if (seq == null) {
+                Person replacedPerson = i < persons.size() ? persons.get(i) : null;
+                if (replacedPerson != null && !currentPersonSet.contains(replacedPerson)
+                        && replacedPersonSet.add(replacedPerson)) {
+                    seq = seqs.get(replacedPerson);
+                    updatedPersons.add(person);
+                    replacedPersons.add(replacedPerson);
+                } else {
+                    seq = seqOfNewPerson++;
+                    insertedPersons.add(person);
+                }
+            }
+            if (seq <= previousSeq) {
+                return Optional.empty();
+            }
+            previousSeq = seq;
+            currentSeqs.put(person, seq);
+        }
+
+        List<Person> deletedPersons = new ArrayList<>();
+        for (Person savedPerson : persons) {
+            if (!currentPersonSet.contains(savedPerson) && !replacedPersonSet.contains(savedPerson)) {
+                deletedPersons.add(savedPerson);
+            }
+        }
+
+        return Optional.of(new Changes(new SavedPersons(currentPersons, currentSeqs, seqOfNewPerson),
+                insertedPersons, updatedPersons, replacedPersons, deletedPersons));
+    }
+
+    /**
+     * The changes between two versions of the saved persons.
+     */
+    static class Changes {
+        private final SavedPersons savedPersons;
+        private final List<Person> insertedPersons;
+        private final List<Person> updatedPersons;
+        private final List<Person> replacedPersons;
+        private final List<Person> deletedPersons;
+
+        private Changes(SavedPersons savedPersons, List<Person> insertedPersons, List<Person> updatedPersons,
+                List<Person> replacedPersons, List<Person> deletedPersons) {
+            this.savedPersons = savedPersons;
+            this.insertedPersons = insertedPersons;
+            this.updatedPersons = updatedPersons;
+            this.replacedPersons = replacedPersons;
+            this.deletedPersons = deletedPersons;
+        }
+
+        /**
+         * Returns the saved persons once the changes are written.
+         */
+        SavedPersons getSavedPersons() {
+            return savedPersons;
+        }
+
+        /**
+         * Returns the new persons, which have new sequence numbers.
+         */
+        List<Person> getInsertedPersons() {
+            return insertedPersons;
+        }
+
+        /**
+         * Returns the edited persons, which have the sequence numbers of the persons they replaced.
+         */
+        List<Person> getUpdatedPersons() {
+            return updatedPersons;
+        }
+
+        /**
+         * Returns the previously saved persons that were replaced by the edited persons, in the same order.
+         */
+        List<Person> getReplacedPersons() {
+            return replacedPersons;
+        }
+
+        /**
+         * Returns the previously saved persons that were deleted.
+         */
+        List<Person> getDeletedPersons() {
+            return deletedPersons;
+        }
+
+        /**
+         * Returns the number of persons that were inserted, updated or deleted.
+         */
+        int size() {
+            return insertedPersons.size() + updatedPersons.size() + deletedPersons.size();
+        }
+    }
+
+}
@@ -0,0 +1,405 @@
+package seedu.findvisor.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.exceptions.IllegalValueException;
+import seedu.findvisor.commons.util.JsonFileFormat;
+import seedu.findvisor.commons.util.JsonUtil;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.exceptions.DuplicatePersonException;
+import seedu.findvisor.model.util.InternPool;
+
+/**
+ * A class to access AddressBook data stored as a folder of JSON segment files on the hard disk.
+ * Persons are split into a fixed number of segments by the hash of their phone number, and a small manifest
+ * records the number of segments and persons. Each save of the default folder only rewrites the segments
+ * containing persons that were added, edited or deleted since that folder was last read or saved,
+ * and segments are read in parallel.
+ * Each save writes the segments to new versions of their files, then replaces the manifest, which names the file
+ * version of every segment, and only then deletes the old versions. A save that fails partway thus leaves the
+ * folder with the data of the previous save.
+ */
+public class SegmentedAddressBookStorage implements AddressBookStorage {
+
+    /** The extension of the folder that holds a segmented address book. */
+    public static final String FOLDER_EXTENSION = ".segments";
+
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+
+    /** The number of segments that address books are saved in. */
+    public static final int SEGMENT_COUNT = 64;
+
+    public static final String MESSAGE_PERSON_COUNT_MISMATCH = "Manifest has %d person(s) but segments have %d.";
+    public static final String MESSAGE_WRONG_SEGMENT = "Segment %d contains a person that belongs to segment %d.";
+    public static final String MESSAGE_DUPLICATE_SEQ = "Segments contain sequence number %d more than once.";
+    public static final String MESSAGE_MISSING_SEGMENT = "Segment file %s is missing.";
+
+    // The name of a segment file, with the version of the file unless it was written by earlier versions of the app
+    private static final Pattern SEGMENT_FILE_NAME_FORMAT =
+            Pattern.compile("segment-\\d+(-v(?<version>\\d+))?\\.json");
+
+    private static final Logger logger = LogsCenter.getLogger(SegmentedAddressBookStorage.class);
+
+    private final Path folderPath;
+    private final JsonFileFormat fileFormat;
+
+    // The persons in the default folder as of the last read or save, with their sequence numbers.
+    // savedPersons is null if the content of the folder is not known, e.g. after a failed save.
+    private SavedPersons savedPersons;
+    // The version of the file of each segment in the default folder, known whenever savedPersons is
+    private List<Long> savedSegmentVersions;
+    private int lastSaveSegmentCount;
+
+    public SegmentedAddressBookStorage(Path folderPath) {
+        this(folderPath, JsonFileFormat.PRETTY);
+    }
+
+    /**
+     * Creates a {@code SegmentedAddressBookStorage} that saves to the folder at {@code folderPath},
+     * writing segments in the given {@code fileFormat}. Segments in any format can be read.
+     */
+    public SegmentedAddressBookStorage(Path folderPath, JsonFileFormat fileFormat) {
+        requireNonNull(folderPath);
+        requireNonNull(fileFormat);
+        this.folderPath = folderPath;
+        this.fileFormat = fileFormat;
+    }
+
+    /**
+     * Returns true if {@code filePath} is the path of a segmented address book folder.
+     */
+    public static boolean isSegmentedFolder(Path filePath) {
+        return filePath.toString().endsWith(FOLDER_EXTENSION);
+    }
+
+    /**
+     * Returns the segment that {@code person} belongs to, out of {@code segmentCount} segments.
+     */
+    static int getSegment(Person person, int segmentCount) {
+        return Math.floorMod(person.getPhone().value.hashCode(), segmentCount);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return folderPath;
+    }
+
+    /**
+     * Returns the number of segment files written or deleted by the last save of the default folder.
+     */
+    int getLastSaveSegmentCount() {
+        return lastSaveSegmentCount;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(folderPath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param folderPath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path folderPath) throws DataLoadingException {
+        requireNonNull(folderPath);
+
+        Optional<JsonSegmentManifest> manifest = JsonUtil.readJsonFile(
+                folderPath.resolve(MANIFEST_FILE_NAME), JsonSegmentManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().validate();
+            int segmentCount = manifest.get().getSegmentCount();
+            List<Long> segmentVersions = manifest.get().getSegmentVersions();
+            AddressBook addressBook = new AddressBook();
+            InternPool internPool = addressBook.getInternPool();
+            List<CompletableFuture<SequencedPersons>> segments = new ArrayList<>();
+            for (int i = 0; i < segmentCount; i++) {
+                int segment = i;
+                Optional<Long> version = segmentVersions == null ? Optional.empty()
+                        : Optional.of(segmentVersions.get(i));
+                segments.add(CompletableFuture.supplyAsync(() ->
+                        readSegment(folderPath, segment, version, segmentCount, internPool)));
+            }
+
+            TreeMap<Long, Person> personsBySeq = new TreeMap<>();
+            for (CompletableFuture<SequencedPersons> segment : segments) {
+                addSequencedPersons(personsBySeq, segment.join());
+            }
+            if (personsBySeq.size() != manifest.get().getPersonCount()) {
+                throw new IllegalValueException(String.format(MESSAGE_PERSON_COUNT_MISMATCH,
+                        manifest.get().getPersonCount(), personsBySeq.size()));
+            }
+
+            List<Person> persons = new ArrayList<>(personsBySeq.values());
+            addressBook.setPersons(persons);
+            if (folderPath.equals(this.folderPath)) {
+                // A folder written by earlier versions of the app is rewritten in full with versioned files
+                boolean isIncrementallySavable = segmentCount == SEGMENT_COUNT && segmentVersions != null;
+                savedPersons = isIncrementallySavable
+                        ? new SavedPersons(persons, new ArrayList<>(personsBySeq.keySet()))
+                        : null;
+                savedSegmentVersions = isIncrementallySavable ? new ArrayList<>(segmentVersions) : null;
+            }
+            return Optional.of(addressBook);
+        } catch (CompletionException e) {
+            logger.info(() -> "Failed to read " + folderPath + ": " + e.getCause().getMessage());
+            throw e.getCause() instanceof DataLoadingException
+                    ? (DataLoadingException) e.getCause()
+                    : new DataLoadingException((Exception) e.getCause());
+        } catch (IllegalValueException | DuplicatePersonException e) {
+            logger.info(() -> "Illegal values found in " + folderPath + ": " + e.getMessage());
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Reads the persons in {@code segment} of the address book in {@code folderPath}, from the given
+     * {@code version} of its file, where version 0 is an empty segment. If the segment files are not versioned,
+     * a missing segment file is an empty segment. Any exception is wrapped in a {@code CompletionException}.
+     */
+    private static SequencedPersons readSegment(Path folderPath, int segment, Optional<Long> version,
+            int segmentCount, InternPool internPool) {
+        try {
+            if (version.isPresent() && version.get() == 0) {
+                return new SequencedPersons(List.of(), List.of());
+            }
+            Path segmentFile = version.isPresent()
+                    ? getSegmentFile(folderPath, segment, version.get())
+                    : getSegmentFile(folderPath, segment);
+            Optional<JsonSerializableSegment> jsonSegment = JsonUtil.readJsonFile(segmentFile,
+                    JsonSerializableSegment.class);
+            if (!jsonSegment.isPresent() && version.isPresent()) {
+                throw new IllegalValueException(String.format(MESSAGE_MISSING_SEGMENT, segmentFile.getFileName()));
+            }
+            if (!jsonSegment.isPresent()) {
+                return new SequencedPersons(List.of(), List.of());
+            }
+
+            List<Person> persons = jsonSegment.get().toModelType(internPool);
+            for (Person person : persons) {
+                int expectedSegment = getSegment(person, segmentCount);
+                if (expectedSegment != segment) {
+                    throw new IllegalValueException(String.format(MESSAGE_WRONG_SEGMENT, segment, expectedSegment));
+                }
+            }
+            return new SequencedPersons(jsonSegment.get().getSeqs(), persons);
+        } catch (DataLoadingException | IllegalValueException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private static void addSequencedPersons(TreeMap<Long, Person> personsBySeq, SequencedPersons sequencedPersons)
+            throws IllegalValueException {
+        for (int i = 0; i < sequencedPersons.seqs.size(); i++) {
+            long seq = sequencedPersons.seqs.get(i);
+            if (personsBySeq.put(seq, sequencedPersons.persons.get(i)) != null) {
+                throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_SEQ, seq));
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, folderPath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the default folder is updated incrementally, other folders are always rewritten in full.
+     *
+     * @param folderPath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path folderPath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(folderPath);
+        List<Person> persons = addressBook.getSnapshot().getPersons();
+        boolean isDefaultFolder = folderPath.equals(this.folderPath);
+
+        Optional<SavedPersons.Changes> changes = isDefaultFolder && savedPersons != null
+                ? savedPersons.getChangesTo(persons)
+                : Optional.empty();
+        SavedPersons writtenPersons = changes.map(SavedPersons.Changes::getSavedPersons)
+                .orElseGet(() -> new SavedPersons(persons, null));
+        Set<Integer> dirtySegments = changes.map(SegmentedAddressBookStorage::getDirtySegments)
+                .orElseGet(SegmentedAddressBookStorage::getAllSegments);
+
+        List<Long> segmentVersions = changes.isPresent()
+                ? new ArrayList<>(savedSegmentVersions)
+                : new ArrayList<>(Collections.nCopies(SEGMENT_COUNT, 0L));
+        if (isDefaultFolder) {
+            savedPersons = null;
+            savedSegmentVersions = null;
+        }
+        if (!dirtySegments.isEmpty()) {
+            Files.createDirectories(folderPath);
+            writeSegments(folderPath, persons, writtenPersons, dirtySegments, segmentVersions);
+            JsonUtil.saveJsonFile(new JsonSegmentManifest(SEGMENT_COUNT, persons.size(), segmentVersions),
+                    folderPath.resolve(MANIFEST_FILE_NAME));
+            deleteUnusedSegmentFiles(folderPath, segmentVersions);
+        }
+
+        if (isDefaultFolder) {
+            logger.fine(() -> "Saved " + dirtySegments.size() + " changed segment(s) to " + folderPath);
+            lastSaveSegmentCount = dirtySegments.size();
+            savedPersons = writtenPersons;
+            savedSegmentVersions = segmentVersions;
+        }
+    }
+
+    /**
+     * Returns the segments that contain persons that were inserted, updated or deleted in {@code changes},
+     * including the old segment of an updated person whose phone number was changed.
+     */
+    private static Set<Integer> getDirtySegments(SavedPersons.Changes changes) {
+        Set<Integer> dirtySegments = new TreeSet<>();
+        for (List<Person> changedPersons : List.of(changes.getInsertedPersons(), changes.getUpdatedPersons(),
+                changes.getReplacedPersons(), changes.getDeletedPersons())) {
+            for (Person person : changedPersons) {
+                dirtySegments.add(getSegment(person, SEGMENT_COUNT));
+            }
+        }
+        return dirtySegments;
+    }
+
+    private static Set<Integer> getAllSegments() {
+        Set<Integer> segments = new TreeSet<>();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments.add(i);
+        }
+        return segments;
+    }
+
+    /**
+     * Writes new versions of the files of {@code segments} in ascending order with the persons in {@code persons}
+     * that belong to them, and updates {@code segmentVersions} with the new versions. Segments without any persons
+     * get version 0, without a file. The files of the previous versions are left for
+     * {@link #deleteUnusedSegmentFiles} to delete once the manifest names the new versions.
+     */
+    private void writeSegments(Path folderPath, List<Person> persons, SavedPersons seqs, Set<Integer> segments,
+            List<Long> segmentVersions) throws IOException {
+        List<List<Person>> personsBySegment = new ArrayList<>();
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            personsBySegment.add(new ArrayList<>());
+        }
+        for (Person person : persons) {
+            int segment = getSegment(person, SEGMENT_COUNT);
+            if (segments.contains(segment)) {
+                personsBySegment.get(segment).add(person);
+            }
+        }
+
+        long version = getNextSegmentVersion(folderPath);
+        for (int segment : segments) {
+            List<Person> segmentPersons = personsBySegment.get(segment);
+            if (segmentPersons.isEmpty()) {
+                segmentVersions.set(segment, 0L);
+            } else {
+                JsonUtil.saveJsonFile(new JsonSerializableSegment(segmentPersons, seqs),
+                        getSegmentFile(folderPath, segment, version), fileFormat);
+                segmentVersions.set(segment, version);
+            }
+        }
+    }
+
+    /**
+     * Returns a version that is newer than that of every segment file in {@code folderPath}, including files left
+     * by a save that failed before it replaced the manifest.
+     */
+    private static long getNextSegmentVersion(Path folderPath) throws IOException {
+        long latestVersion = 0;
+        try (Stream<Path> files = Files.list(folderPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SEGMENT_FILE_NAME_FORMAT.matcher(file.getFileName().toString());
+                if (matcher.matches() && matcher.group("version") != null) {
+                    latestVersion = Math.max(latestVersion, Long.parseLong(matcher.group("version")));
+                }
+            }
+        }
+        return latestVersion + 1;
+    }
+
+    /**
+     * Deletes the segment files in {@code folderPath} that are not the current version of their segment in
+     * {@code segmentVersions}. Files that cannot be deleted are left for a later save to delete.
+     */
+    private static void deleteUnusedSegmentFiles(Path folderPath, List<Long> segmentVersions) throws IOException {
+        Set<Path> usedFiles = new TreeSet<>();
+        for (int segment = 0; segment < segmentVersions.size(); segment++) {
+            if (segmentVersions.get(segment) != 0) {
+                usedFiles.add(getSegmentFile(folderPath, segment, segmentVersions.get(segment)));
+            }
+        }
+
+        List<Path> unusedFiles = new ArrayList<>();
+        try (Stream<Path> files = Files.list(folderPath)) {
+            files.filter(file -> SEGMENT_FILE_NAME_FORMAT.matcher(file.getFileName().toString()).matches())
+                    .filter(file -> !usedFiles.contains(file))
+                    .forEach(unusedFiles::add);
+        }
+        for (Path unusedFile : unusedFiles) {
+            try {
+                Files.deleteIfExists(unusedFile);
+            } catch (IOException e) {
+                logger.warning(() -> "Failed to delete unused segment file " + unusedFile + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the path of the file of {@code segment} in the address book folder at {@code folderPath}, as written
+     * by earlier versions of the app, which did not version the segment files.
+     */
+    static Path getSegmentFile(Path folderPath, int segment) {
+        return folderPath.resolve(String.format("segment-%02d.json", segment));
+    }
+
+    /**
+     * Returns the path of the given {@code version} of the file of {@code segment} in the address book folder at
+     * {@code folderPath}.
+     */
+    static Path getSegmentFile(Path folderPath, int segment, long version) {
+        return folderPath.resolve(String.format("segment-%02d-v%d.json", segment, version));
+    }
+
+    /**
+     * The persons read from one segment, with their sequence numbers.
+     */
+    private static class SequencedPersons {
+        private final List<Long> seqs;
+        private final List<Person> persons;
+
+        SequencedPersons(List<Long> seqs, List<Person> persons) {
+            this.seqs = seqs;
+            this.persons = persons;
+        }
+    }
+
+}
@@ -6,7 +6,9 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.model.AddressBookSnapshot;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 import seedu.findvisor.model.ReadOnlyUserPrefs;
 import seedu.findvisor.model.UserPrefs;
@@ -28,6 +30,22 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file in {@code userPrefs}: an embedded database if
+     * the file is a database file, a folder of segment files if the file is a segmented folder, or a JSON file
+     * otherwise. JSON files are written in the format in {@code userPrefs}.
+     */
+    public static AddressBookStorage createAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        if (JdbcAddressBookStorage.isDatabaseFile(filePath)) {
+            return new JdbcAddressBookStorage(filePath);
+        } else if (SegmentedAddressBookStorage.isSegmentedFolder(filePath)) {
+            return new SegmentedAddressBookStorage(filePath, userPrefs.getAddressBookFileFormat());
+        } else {
+            return new JsonAddressBookStorage(filePath, userPrefs.getAddressBookFileFormat());
+        }
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -60,19 +78,36 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, StartupTracer tracer)
+            throws DataLoadingException {
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
+        return addressBookStorage.readAddressBook(filePath, tracer);
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves an immutable snapshot of {@code addressBook} to {@code filePath}, so that the address book
+     * can continue to be modified by other threads while it is being written.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        logger.fine(() -> "Attempting to write version " + snapshot.getVersion() + " to data file: " + filePath);
+        addressBookStorage.saveAddressBook(snapshot, filePath);
+    }
+
+    @Override
+    public void close() throws IOException {
+        addressBookStorage.close();
     }
 
 }
@@ -1,9 +1,14 @@
 package seedu.findvisor.ui;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
+import seedu.findvisor.logic.LiveSearch;
 import seedu.findvisor.logic.commands.CommandResult;
 import seedu.findvisor.logic.commands.exceptions.CommandException;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
@@ -17,18 +22,34 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final LiveSearch liveSearch;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which searches with {@code liveSearch}
+     * while a find command is being typed, and completes the command with {@code commandCompleter} when Tab is
+     * pressed.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, LiveSearch liveSearch, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.liveSearch = liveSearch;
+        this.commandCompleter = commandCompleter;
+        // Tab would otherwise move the focus out of the command box
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletion();
+                event.consume();
+            }
+        });
+        // calls #setStyleToDefault() and searches whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            liveSearch.search(newText);
+        });
     }
 
     /**
@@ -41,6 +62,8 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        // The entered command replaces the result of any search still running for it
+        liveSearch.cancel();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -49,6 +72,17 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Handles the Tab button pressed event.
+     */
+    private void handleCompletion() {
+        String commandText = commandTextField.getText();
+        commandCompleter.complete(commandText).ifPresent(completedText -> {
+            commandTextField.setText(completedText);
+            commandTextField.end();
+        });
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +116,18 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command with the word being typed at its end completed, or an empty {@code Optional} if it
+         * cannot be completed.
+         *
+         * @see seedu.findvisor.logic.Logic#complete(String)
+         */
+        Optional<String> complete(String commandText);
+    }
+
 }
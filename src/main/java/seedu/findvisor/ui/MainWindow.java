@@ -1,5 +1,6 @@
 package seedu.findvisor.ui;
 
+import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -15,7 +16,10 @@ import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import seedu.findvisor.commons.core.GuiSettings;
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.logic.Autocompleter.Completion;
+import seedu.findvisor.logic.LiveSearch;
 import seedu.findvisor.logic.Logic;
+import seedu.findvisor.logic.Messages;
 import seedu.findvisor.logic.commands.CommandResult;
 import seedu.findvisor.logic.commands.exceptions.CommandException;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
@@ -67,23 +71,21 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage}, sized by {@code guiSettings}, before the
+     * {@code Logic} is ready. {@link #fillInnerParts(Logic)} must be called before the window is used.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, GuiSettings guiSettings) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
-        this.logic = logic;
 
         // Configure the UI
-        setDefaultGuiSettings(logic.getGuiSettings());
+        setDefaultGuiSettings(guiSettings);
         SplitPane.setResizableWithParent(meetingList, false);
         SplitPane.setResizableWithParent(mainAppView, false);
 
         setAccelerators();
-
-        helpWindow = new HelpWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -125,9 +127,11 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Fills up all the placeholders of this window.
+     * Fills up all the placeholders of this window with the data of {@code logic}, which the window uses from now on.
      */
-    void fillInnerParts() {
+    void fillInnerParts(Logic logic) {
+        this.logic = logic;
+
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
@@ -137,10 +141,12 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath(), logic.loadingProperty(),
+                logic.getAddressBook().getPersonList());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        LiveSearch liveSearch = new LiveSearch(logic, Platform::runLater, resultDisplay::setFeedbackToUser);
+        CommandBox commandBox = new CommandBox(this::executeCommand, liveSearch, this::completeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -160,9 +166,14 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Opens the help window or focuses on it if it's already opened.
+     * The help window is only created the first time it is opened.
      */
     @FXML
     public void handleHelp() {
+        if (helpWindow == null) {
+            helpWindow = new HelpWindow();
+        }
+
         if (!helpWindow.isShowing()) {
             helpWindow.show();
         } else {
@@ -187,7 +198,9 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY(), isMaximized, splitPane.getDividerPositions()[0]);
         logic.setGuiSettings(guiSettings);
-        helpWindow.hide();
+        if (helpWindow != null) {
+            helpWindow.hide();
+        }
         primaryStage.hide();
     }
 
@@ -199,7 +212,7 @@ public class MainWindow extends UiPart<Stage> {
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         try {
             CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
+            logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
             if (commandResult.isShowHelp()) {
@@ -212,9 +225,22 @@ public class MainWindow extends UiPart<Stage> {
 
             return commandResult;
         } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
+            logger.info(() -> "An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         }
     }
+
+    /**
+     * Completes the command, and shows the possible completions if there is more than one.
+     *
+     * @see seedu.findvisor.logic.Logic#complete(String)
+     */
+    private Optional<String> completeCommand(String commandText) {
+        Optional<Completion> completion = logic.complete(commandText);
+        completion.filter(c -> c.getCompletions().size() > 1)
+                .ifPresent(c -> resultDisplay.setFeedbackToUser(String.format(Messages.MESSAGE_COMPLETIONS,
+                        String.join(", ", c.getCompletions()))));
+        return completion.map(Completion::getCompletedText);
+    }
 }
@@ -14,7 +14,7 @@ public class MeetingCard extends UiPart<Region> {
 
     private static final String FXML = "MeetingListCard.fxml";
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -26,10 +26,22 @@ public class MeetingCard extends UiPart<Region> {
     private Label meeting;
 
     /**
-     * Creates a {@code MeetingCard} with the given {@code Person} information.
+     * Creates an empty {@code MeetingCard} to be bound to a {@code Person} later.
+     *
+     * @see #setPerson(Person)
      */
-    public MeetingCard(Person person) {
+    public MeetingCard() {
         super(FXML);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Rebinds this card to display the given {@code Person}, updating the existing labels in place.
+     */
+    public void setPerson(Person person) {
         this.person = person;
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
@@ -31,8 +31,11 @@ public class MeetingListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code MeetingCard}.
+     * The card is created once per cell and rebound as the cell is reused while scrolling.
      */
     class MeetingListCell extends ListCell<Person> {
+        private final MeetingCard card = new MeetingCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,8 @@ public class MeetingListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new MeetingCard(person).getRoot());
+                card.setPerson(person);
+                setGraphic(card.getRoot());
             }
         }
     }
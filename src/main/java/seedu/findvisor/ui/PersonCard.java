@@ -1,6 +1,7 @@
 package seedu.findvisor.ui;
 
 import java.util.Comparator;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -25,7 +26,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -47,10 +48,22 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard} to be bound to a {@code Person} later.
+     *
+     * @see #setPerson(Person, int)
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Rebinds this card to display the given {@code Person} and index, updating the existing labels in place.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
@@ -59,8 +72,9 @@ public class PersonCard extends UiPart<Region> {
         email.setText(person.getEmail().value);
         meeting.setText(person.getMeeting().map(Messages::format).orElse("No Scheduled Meeting"));
         remark.setText(person.getRemark().map(Messages::format).orElse("-"));
-        person.getTags().stream()
+        tags.getChildren().setAll(person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+                .map(tag -> new Label(tag.tagName))
+                .collect(Collectors.toList()));
     }
 }
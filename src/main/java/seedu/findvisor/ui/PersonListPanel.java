@@ -31,8 +31,11 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The card is created once per cell and rebound as the cell is reused while scrolling.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private final PersonCard card = new PersonCard();
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +44,8 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                card.setPerson(person, getIndex() + 1);
+                setGraphic(card.getRoot());
             }
         }
     }
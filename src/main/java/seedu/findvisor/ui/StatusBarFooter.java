@@ -3,26 +3,40 @@ package seedu.findvisor.ui;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
+import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.findvisor.model.person.Person;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_LOADING = "Loading... %1$d persons";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, which shows the number of {@code persons}
+     * loaded so far while {@code loading} is true.
      */
-    public StatusBarFooter(Path saveLocation) {
+    public StatusBarFooter(Path saveLocation, ReadOnlyBooleanProperty loading, ObservableList<Person> persons) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        loadingStatus.visibleProperty().bind(loading);
+        loadingStatus.managedProperty().bind(loading);
+        loadingStatus.textProperty().bind(Bindings.createStringBinding(() ->
+                String.format(MESSAGE_LOADING, persons.size()), persons));
     }
 
 }
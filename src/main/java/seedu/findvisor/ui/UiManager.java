@@ -1,5 +1,6 @@
 package seedu.findvisor.ui;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -8,7 +9,9 @@ import javafx.scene.control.Alert.AlertType;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import seedu.findvisor.MainApp;
+import seedu.findvisor.commons.core.GuiSettings;
 import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.util.StringUtil;
 import seedu.findvisor.logic.Logic;
 
@@ -22,14 +25,25 @@ public class UiManager implements Ui {
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
     private static final String ICON_APPLICATION = "/images/findvisor.png";
 
-    private Logic logic;
+    private final GuiSettings guiSettings;
+    private final CompletableFuture<Logic> logicFuture;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
-        this.logic = logic;
+        this(logic.getGuiSettings(), CompletableFuture.completedFuture(logic));
+    }
+
+    /**
+     * Creates a {@code UiManager} whose main window is loaded and sized by {@code guiSettings} while the
+     * {@code Logic} is still being created, e.g. while the data file is read. The main window is only filled in
+     * once {@code logicFuture} completes.
+     */
+    public UiManager(GuiSettings guiSettings, CompletableFuture<Logic> logicFuture) {
+        this.guiSettings = guiSettings;
+        this.logicFuture = logicFuture;
     }
 
     @Override
@@ -40,12 +54,21 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            try (StartupTracer.Span span = StartupTracer.get().start("fxml load")) {
+                mainWindow = new MainWindow(primaryStage, guiSettings);
+            }
+            // The window is only shown once there is data to fill it with
+            Logic logic;
+            try (StartupTracer.Span span = StartupTracer.get().start("wait for logic")) {
+                logic = logicFuture.join();
+            }
             mainWindow.show(); //This should be called before creating other UI parts
-            mainWindow.fillInnerParts();
+            try (StartupTracer.Span span = StartupTracer.get().start("fill inner parts")) {
+                mainWindow.fillInnerParts(logic);
+            }
 
         } catch (Throwable e) {
-            logger.severe(StringUtil.getDetails(e));
+            logger.severe(() -> StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
         }
     }
@@ -79,7 +102,7 @@ public class UiManager implements Ui {
      * and exits the application after the user has closed the alert dialog.
      */
     private void showFatalErrorDialogAndShutdown(String title, Throwable e) {
-        logger.severe(title + " " + e.getMessage() + StringUtil.getDetails(e));
+        logger.severe(() -> title + " " + e.getMessage() + StringUtil.getDetails(e));
         showAlertDialogAndWait(Alert.AlertType.ERROR, title, e.getMessage(), e.toString());
         Platform.exit();
         System.exit(1);
@@ -3,6 +3,7 @@ package seedu.findvisor.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -68,8 +69,8 @@ public abstract class UiPart<T> {
         fxmlLoader.setLocation(location);
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream fxmlContent = UiResourceCache.openFxml(location)) {
+            fxmlLoader.load(fxmlContent);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
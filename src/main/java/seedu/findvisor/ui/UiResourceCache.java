@@ -0,0 +1,93 @@
+package seedu.findvisor.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+
+import javafx.css.CssParser;
+import seedu.findvisor.MainApp;
+import seedu.findvisor.commons.core.LogsCenter;
+import seedu.findvisor.commons.util.StringUtil;
+
+/**
+ * Caches the contents of the FXML files used by the UI so that they are read from the jar only once,
+ * and preloads them (along with the stylesheets) on a background thread while the rest of the app initializes.
+ */
+public class UiResourceCache {
+
+    private static final List<String> PRELOADED_FXML_FILES = List.of(
+            "MainWindow.fxml", "PersonListPanel.fxml", "PersonListCard.fxml", "MeetingListPanel.fxml",
+            "MeetingListCard.fxml", "ResultDisplay.fxml", "CommandBox.fxml", "StatusBarFooter.fxml");
+    private static final String CSS_FILE_FOLDER = "/view/";
+    private static final List<String> PRELOADED_CSS_FILES = List.of("DarkTheme.css", "Extensions.css");
+
+    private static final Logger logger = LogsCenter.getLogger(UiResourceCache.class);
+    private static final Map<String, byte[]> fxmlContents = new ConcurrentHashMap<>();
+
+    /**
+     * Reads the FXML files and parses the stylesheets of the main window on a background thread.
+     * Rarely used windows such as the {@code HelpWindow} are not preloaded.
+     *
+     * @return a future that completes once all resources have been preloaded.
+     */
+    public static CompletableFuture<Void> preloadAsync() {
+        return CompletableFuture.runAsync(UiResourceCache::preload);
+    }
+
+    private static void preload() {
+        long startTime = System.nanoTime();
+        for (String fxmlFileName : PRELOADED_FXML_FILES) {
+            URL fxmlFileUrl = MainApp.class.getResource(UiPart.FXML_FILE_FOLDER + fxmlFileName);
+            try {
+                getFxmlContent(fxmlFileUrl);
+            } catch (IOException e) {
+                logger.warning(() -> "Failed to preload " + fxmlFileName + ": " + StringUtil.getDetails(e));
+            }
+        }
+
+        // Parsing the stylesheets once loads and warms up the CSS parser before the first scene is styled.
+        CssParser cssParser = new CssParser();
+        for (String cssFileName : PRELOADED_CSS_FILES) {
+            URL cssFileUrl = MainApp.class.getResource(CSS_FILE_FOLDER + cssFileName);
+            try {
+                cssParser.parse(cssFileUrl);
+            } catch (IOException e) {
+                logger.warning(() -> "Failed to preload " + cssFileName + ": " + StringUtil.getDetails(e));
+            }
+        }
+        logger.info(() -> "Preloaded UI resources in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Returns a stream over the contents of the FXML file at {@code fxmlFileUrl},
+     * reading the file and caching its contents if it has not been read before.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    public static InputStream openFxml(URL fxmlFileUrl) throws IOException {
+        return new ByteArrayInputStream(getFxmlContent(fxmlFileUrl));
+    }
+
+    private static byte[] getFxmlContent(URL fxmlFileUrl) throws IOException {
+        requireNonNull(fxmlFileUrl);
+        byte[] content = fxmlContents.get(fxmlFileUrl.toExternalForm());
+        if (content != null) {
+            return content;
+        }
+
+        try (InputStream inputStream = fxmlFileUrl.openStream()) {
+            content = inputStream.readAllBytes();
+        }
+        fxmlContents.putIfAbsent(fxmlFileUrl.toExternalForm(), content);
+        return content;
+    }
+
+}
@@ -0,0 +1,45 @@
+package seedu.findvisor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.util.PersonGenerator;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+
+public class GenerateMainTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 4, 1);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_jsonFile_readsBackGeneratedPersons() throws Exception {
+        assertGeneratedFile(testFolder.resolve("addressbook.json"));
+    }
+
+    @Test
+    public void generate_gzipFile_readsBackGeneratedPersons() throws Exception {
+        assertGeneratedFile(testFolder.resolve("addressbook.json" + GenerateMain.GZIP_EXTENSION));
+    }
+
+    @Test
+    public void generate_zeroPersons_readsBackEmptyAddressBook() throws Exception {
+        Path dataFile = testFolder.resolve("empty.json");
+        GenerateMain.generate(dataFile, 0, 1, BASE_DATE);
+        assertEquals(new AddressBook(), new AddressBook(new JsonAddressBookStorage(dataFile).readAddressBook().get()));
+    }
+
+    private void assertGeneratedFile(Path dataFile) throws Exception {
+        GenerateMain.generate(dataFile, 500, 1, BASE_DATE);
+        AddressBook expected = new PersonGenerator(1, BASE_DATE).generateAddressBook(500);
+        assertEquals(expected, new AddressBook(new JsonAddressBookStorage(dataFile).readAddressBook().get()));
+    }
+
+}
@@ -0,0 +1,51 @@
+package seedu.findvisor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.storage.JdbcAddressBookStorage;
+import seedu.findvisor.testutil.TypicalPersons;
+
+public class MigrateMainTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void migrate_typicalPersonsFile_importsAllPersons() throws Exception {
+        Path databaseFile = testFolder.resolve("addressbook.mv.db");
+        int personCount = MigrateMain.migrate(TYPICAL_PERSONS_FILE, databaseFile);
+        assertEquals(TypicalPersons.getTypicalPersons().size(), personCount);
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(databaseFile);
+        try {
+            assertEquals(TypicalPersons.getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        } finally {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void migrate_missingFile_throwsIoException() {
+        assertThrows(IOException.class, () -> MigrateMain.migrate(testFolder.resolve("missing.json"),
+                testFolder.resolve("addressbook.mv.db")));
+    }
+
+    @Test
+    public void migrate_invalidFile_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> MigrateMain.migrate(INVALID_PERSON_FILE,
+                testFolder.resolve("addressbook.mv.db")));
+    }
+
+}
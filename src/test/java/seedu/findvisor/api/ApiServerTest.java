@@ -0,0 +1,254 @@
+package seedu.findvisor.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.TypicalPersons.AMY;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.commons.util.JsonUtil;
+import seedu.findvisor.logic.LogicManager;
+import seedu.findvisor.logic.Messages;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.model.UserPrefs;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.storage.JsonAdaptedPerson;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.StorageManager;
+import seedu.findvisor.testutil.MeetingBuilder;
+import seedu.findvisor.testutil.PersonBuilder;
+import seedu.findvisor.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final ExecutorService commandExecutor = Executors.newSingleThreadExecutor();
+    private Model model;
+    private ApiServer apiServer;
+    private Path tokenFilePath;
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        tokenFilePath = temporaryFolder.resolve("api-token");
+        apiServer = new ApiServer(new LogicManager(model, storage), commandExecutor, 0, tokenFilePath);
+        apiServer.start();
+        token = Files.readString(tokenFilePath);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        commandExecutor.shutdownNow();
+    }
+
+    @Test
+    public void getPersons_returnsAllPersons() throws Exception {
+        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals(getTypicalPersons(), toPersons(response.body()));
+    }
+
+    @Test
+    public void getTodaysMeetings_returnsOnlyPersonsMeetingToday() throws Exception {
+        Person personMeetingToday = new PersonBuilder(AMY).withMeeting(Optional.of(new MeetingBuilder()
+                .withStart(LocalDate.now().atTime(0, 0))
+                .withEnd(LocalDate.now().atTime(0, 30))
+                .build())).build();
+        post(PersonUtil.getAddCommand(AMY));
+        commandExecutor.submit(() -> model.setPerson(AMY, personMeetingToday)).get();
+
+        HttpResponse<String> response = get(ApiServer.TODAYS_MEETINGS_PATH);
+        assertEquals(200, response.statusCode());
+        assertEquals(List.of(personMeetingToday), toPersons(response.body()));
+    }
+
+    @Test
+    public void postCommand_validCommand_executesCommand() throws Exception {
+        HttpResponse<String> response = post(PersonUtil.getAddCommand(AMY));
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"success\" : true"));
+        assertTrue(model.hasPerson(AMY));
+        assertTrue(toPersons(get(ApiServer.PERSONS_PATH).body()).contains(AMY));
+    }
+
+    @Test
+    public void postCommand_invalidCommand_returnsBadRequest() throws Exception {
+        HttpResponse<String> response = post("unknowncommand");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("\"success\" : false"));
+        assertTrue(response.body().contains(Messages.MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void wrongMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(405, client.send(authorized(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)))
+                .POST(HttpRequest.BodyPublishers.ofString("")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+    }
+
+    @Test
+    public void start_tokenFileWritten() throws Exception {
+        assertFalse(token.isBlank());
+        if (Files.getFileStore(tokenFilePath).supportsFileAttributeView("posix")) {
+            assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(tokenFilePath)));
+        }
+    }
+
+    @Test
+    public void stop_tokenFileDeleted() {
+        apiServer.stop();
+        apiServer = null;
+        assertFalse(Files.exists(tokenFilePath));
+    }
+
+    @Test
+    public void request_missingOrWrongToken_returnsUnauthorized() throws Exception {
+        assertEquals(401, client.send(HttpRequest.newBuilder(uri(ApiServer.PERSONS_PATH)).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+
+        HttpResponse<String> response = client.send(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH))
+                .header("Authorization", ApiServer.AUTHORIZATION_SCHEME + "wrong" + token)
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(401, response.statusCode());
+        assertEquals(getTypicalPersons().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_fromBrowser_returnsForbidden() throws Exception {
+        HttpResponse<String> response = client.send(authorized(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH)))
+                .header("Origin", "http://example.com")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build(), HttpResponse.BodyHandlers.ofString());
+        assertEquals(403, response.statusCode());
+        assertEquals(getTypicalPersons().size(), model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void request_otherHost_returnsForbidden() throws Exception {
+        // The Host header cannot be set with HttpClient, so the request is written by hand
+        try (Socket socket = new Socket("127.0.0.1", apiServer.getPort())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(("GET " + ApiServer.PERSONS_PATH + " HTTP/1.1\r\n"
+                    + "Host: attacker.example:" + apiServer.getPort() + "\r\n"
+                    + "Authorization: " + ApiServer.AUTHORIZATION_SCHEME + token + "\r\n"
+                    + "Connection: close\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            BufferedReader input = new BufferedReader(new InputStreamReader(socket.getInputStream(),
+                    StandardCharsets.US_ASCII));
+            assertTrue(input.readLine().startsWith("HTTP/1.1 403"));
+        }
+    }
+
+    /**
+     * Load test: many clients read concurrently while commands are being executed,
+     * and every read must see a complete, consistent list.
+     */
+    @Test
+    public void concurrentReadsAndWrites_allSucceed() throws Exception {
+        int readerCount = 8;
+        int readsPerReader = 50;
+        int writeCount = 20;
+        ExecutorService clients = Executors.newFixedThreadPool(readerCount + 1);
+        try {
+            Future<?> writer = clients.submit(() -> {
+                for (int i = 0; i < writeCount; i++) {
+                    Person person = new PersonBuilder().withName("Load Test " + (char) ('a' + i))
+                            .withPhone(String.valueOf(90000000 + i)).withEmail("load" + i + "@example.com").build();
+                    assertEquals(200, post(PersonUtil.getAddCommand(person)).statusCode());
+                }
+                return null;
+            });
+
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < readerCount; r++) {
+                readers.add(clients.submit(() -> {
+                    int lastSize = 0;
+                    for (int i = 0; i < readsPerReader; i++) {
+                        HttpResponse<String> response = get(ApiServer.PERSONS_PATH);
+                        assertEquals(200, response.statusCode());
+                        int size = toPersons(response.body()).size();
+                        assertTrue(size >= lastSize);
+                        lastSize = size;
+                    }
+                    return null;
+                }));
+            }
+
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+
+        int expectedSize = getTypicalPersons().size() + writeCount;
+        assertEquals(expectedSize, toPersons(get(ApiServer.PERSONS_PATH).body()).size());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://127.0.0.1:" + apiServer.getPort() + path);
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder request) {
+        return request.header("Authorization", ApiServer.AUTHORIZATION_SCHEME + token);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(authorized(HttpRequest.newBuilder(uri(path))).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String commandText) throws Exception {
+        return client.send(authorized(HttpRequest.newBuilder(uri(ApiServer.COMMANDS_PATH)))
+                .POST(HttpRequest.BodyPublishers.ofString(commandText)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<Person> toPersons(String json) throws Exception {
+        List<Person> persons = new ArrayList<>();
+        for (JsonAdaptedPerson adaptedPerson : JsonUtil.fromJsonString(json, JsonAdaptedPerson[].class)) {
+            persons.add(adaptedPerson.toModelType());
+        }
+        return persons;
+    }
+
+}
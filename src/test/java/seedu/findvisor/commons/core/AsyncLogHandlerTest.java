@@ -0,0 +1,145 @@
+package seedu.findvisor.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler recordingHandler = new RecordingHandler();
+    private AsyncLogHandler asyncLogHandler;
+
+    @AfterEach
+    public void tearDown() {
+        if (asyncLogHandler != null) {
+            asyncLogHandler.close();
+        }
+    }
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(List.of(recordingHandler), 0));
+    }
+
+    @Test
+    public void publish_records_passedOnInOrderOnAnotherThread() {
+        asyncLogHandler = new AsyncLogHandler(List.of(recordingHandler), 4);
+        for (int i = 0; i < 10; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+            asyncLogHandler.flush();
+        }
+
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expectedMessages.add("message " + i);
+        }
+        assertEquals(expectedMessages, recordingHandler.getMessages());
+        assertTrue(recordingHandler.isFlushed);
+        assertNotEquals(Thread.currentThread(), recordingHandler.publishingThread);
+    }
+
+    @Test
+    public void publish_record_sourceFoundOnLoggingThread() {
+        asyncLogHandler = new AsyncLogHandler(List.of(recordingHandler), 4);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(asyncLogHandler);
+        logger.info("message");
+        asyncLogHandler.flush();
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), recordingHandler.records.get(0).getSourceClassName());
+    }
+
+    @Test
+    public void publish_bufferFull_oldestRecordsDropped() throws Exception {
+        asyncLogHandler = new AsyncLogHandler(List.of(recordingHandler), 2);
+        recordingHandler.blockUntilReleased();
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "blocking"));
+        recordingHandler.isBlocking.await();
+
+        for (int i = 0; i < 5; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        recordingHandler.release.countDown();
+        asyncLogHandler.flush();
+
+        assertEquals(List.of("blocking", String.format(AsyncLogHandler.MESSAGE_RECORDS_DROPPED, 3),
+                "message 3", "message 4"), recordingHandler.getMessages());
+    }
+
+    @Test
+    public void close_bufferedRecords_passedOnBeforeHandlersClosed() {
+        asyncLogHandler = new AsyncLogHandler(List.of(recordingHandler), 16);
+        for (int i = 0; i < 10; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncLogHandler.close();
+        asyncLogHandler.publish(new LogRecord(Level.INFO, "after close"));
+
+        assertEquals(10, recordingHandler.getMessages().size());
+        assertTrue(recordingHandler.isClosed);
+    }
+
+    /**
+     * A handler that records the records passed to it, optionally blocking on the first record.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch isBlocking = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean shouldBlock;
+        private volatile Thread publishingThread;
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        void blockUntilReleased() {
+            shouldBlock = true;
+        }
+
+        List<String> getMessages() {
+            synchronized (records) {
+                return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            publishingThread = Thread.currentThread();
+            records.add(record);
+            if (shouldBlock) {
+                shouldBlock = false;
+                isBlocking.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+
+}
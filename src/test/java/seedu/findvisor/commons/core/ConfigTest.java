@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", apiServerEnabled=" + config.isApiServerEnabled()
+                + ", apiServerPort=" + config.getApiServerPort()
+                + ", metricsFilePath=" + config.getMetricsFilePath()
+                + ", metricsDumpIntervalSeconds=" + config.getMetricsDumpIntervalSeconds()
+                + ", progressiveLoadingEnabled=" + config.isProgressiveLoadingEnabled() + "}";
         assertEquals(expected, config.toString());
     }
 
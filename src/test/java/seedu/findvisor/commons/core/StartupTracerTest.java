@@ -0,0 +1,72 @@
+package seedu.findvisor.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupTracerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final StartupTracer tracer = new StartupTracer();
+
+    @Test
+    public void start_spanClosed_phaseRecorded() {
+        try (StartupTracer.Span span = tracer.start("config")) {
+            // nothing to time
+        }
+        tracer.record("uniqueness check", System.nanoTime(), 5_000_000);
+
+        List<StartupTracer.Phase> phases = tracer.getPhases();
+        assertEquals(2, phases.size());
+        assertEquals("config", phases.get(0).getName());
+        assertEquals(Thread.currentThread().getName(), phases.get(0).getThreadName());
+        assertTrue(phases.get(0).getDurationNanos() >= 0);
+        assertEquals("uniqueness check", phases.get(1).getName());
+        assertEquals(5_000_000, phases.get(1).getDurationNanos());
+    }
+
+    @Test
+    public void record_afterFinish_notRecorded() {
+        StartupTracer.Span span = tracer.start("first frame");
+        tracer.finish();
+        span.close();
+        tracer.record("json parse", System.nanoTime(), 1);
+        assertTrue(tracer.getPhases().isEmpty());
+    }
+
+    @Test
+    public void toJson_containsPhasesAndTotal() {
+        tracer.record("model", System.nanoTime(), 2_000_000);
+        assertNull(tracer.toJson().get("totalMillis"));
+
+        tracer.finish();
+        Map<String, Object> json = tracer.toJson();
+        assertNotNull(json.get("totalMillis"));
+        List<?> phases = (List<?>) json.get("phases");
+        assertEquals(1, phases.size());
+        Map<?, ?> phase = (Map<?, ?>) phases.get(0);
+        assertEquals("model", phase.get("name"));
+        assertEquals(2.0, phase.get("durationMillis"));
+    }
+
+    @Test
+    public void writeReport_writesJsonFile() throws Exception {
+        tracer.record("config", System.nanoTime(), 1_000_000);
+        tracer.finish();
+        Path reportFile = testFolder.resolve("startup.json");
+        tracer.writeReport(reportFile);
+        assertTrue(Files.readString(reportFile).contains("\"config\""));
+    }
+
+}
@@ -0,0 +1,52 @@
+package seedu.findvisor.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.commons.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics metrics = new CommandMetrics();
+
+    @Test
+    public void recordDuration_nullCommandWord_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> metrics.recordDuration(null, Phase.PARSE, 1));
+    }
+
+    @Test
+    public void getCommandWords_noMetrics_returnsEmptySet() {
+        assertTrue(metrics.getCommandWords().isEmpty());
+        assertEquals(0, metrics.getHistogram("list", Phase.EXECUTE).getCount());
+        assertEquals(0, metrics.getPersonsScanned("list"));
+    }
+
+    @Test
+    public void record_metricsKeptByCommandWord() {
+        metrics.recordDuration("list", Phase.EXECUTE, 100);
+        metrics.recordDuration("list", Phase.EXECUTE, 200);
+        metrics.recordDuration("find", Phase.PARSE, 300);
+        metrics.recordPersonsScanned("find", 5);
+        metrics.recordAllocatedBytes("find", 2048);
+
+        assertEquals(List.of("find", "list"), List.copyOf(metrics.getCommandWords()));
+        assertEquals(2, metrics.getHistogram("list", Phase.EXECUTE).getCount());
+        assertEquals(0, metrics.getHistogram("list", Phase.PARSE).getCount());
+        assertEquals(300, metrics.getHistogram("find", Phase.PARSE).getMaxNanos());
+        assertEquals(5, metrics.getPersonsScanned("find"));
+        assertEquals(2048, metrics.getAllocatedBytes("find"));
+    }
+
+    @Test
+    public void countPersonScanned_countedInTotal() {
+        metrics.countPersonScanned();
+        metrics.countPersonScanned();
+        assertEquals(2, metrics.getTotalPersonsScanned());
+    }
+
+}
@@ -0,0 +1,66 @@
+package seedu.findvisor.commons.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getBucket_durationWithinItsBucketBounds() {
+        long[] durations = {0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789, Long.MAX_VALUE};
+        for (long duration : durations) {
+            int bucket = LatencyHistogram.getBucket(duration);
+            assertTrue(duration <= LatencyHistogram.getBucketUpperBound(bucket));
+            if (bucket > 0) {
+                assertTrue(duration > LatencyHistogram.getBucketUpperBound(bucket - 1));
+            }
+        }
+    }
+
+    @Test
+    public void getNanosAtPercentile_noDurations_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getNanosAtPercentile(50));
+        assertEquals(0, histogram.getMeanNanos());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getNanosAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getNanosAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getNanosAtPercentile(101));
+    }
+
+    @Test
+    public void getNanosAtPercentile_recordedDurations_withinBucketAccuracy() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMaxNanos());
+        assertEquals(500_500, histogram.getMeanNanos());
+        long median = histogram.getNanosAtPercentile(50);
+        assertTrue(median >= 500_000 && median <= 500_000 * 1.125);
+        assertEquals(1_000_000, histogram.getNanosAtPercentile(100));
+    }
+
+    @Test
+    public void record_negativeDuration_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void toMillis() {
+        assertEquals(1.5, LatencyHistogram.toMillis(1_500_000));
+    }
+
+}
@@ -0,0 +1,113 @@
+package seedu.findvisor.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class ChunkedListTest {
+
+    @Test
+    public void of_elements_sameElements() {
+        List<Integer> elements = createElements(0, 3 * ChunkedList.CHUNK_SIZE + 5);
+        ChunkedList<Integer> list = ChunkedList.of(elements);
+        assertEquals(elements, list);
+        assertArrayEquals(elements.toArray(), list.toArray());
+        assertEquals(List.of(), ChunkedList.of(List.of()));
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ChunkedList.of(null));
+    }
+
+    @Test
+    public void withReplaced_elementsReplaced_originalUnchanged() {
+        ChunkedList<Integer> list = ChunkedList.of(List.of(0, 1, 2, 3));
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), list.withReplaced(4, 0, List.of(4, 5)));
+        assertEquals(List.of(0, 9, 2, 3), list.withReplaced(1, 1, List.of(9)));
+        assertEquals(List.of(0, 3), list.withReplaced(1, 2, List.of()));
+        assertEquals(List.of(7, 8), list.withReplaced(0, 4, List.of(7, 8)));
+        assertEquals(List.of(0, 1, 2, 3), list);
+    }
+
+    @Test
+    public void withReplaced_nothingReplaced_returnsSameList() {
+        ChunkedList<Integer> list = ChunkedList.of(List.of(0, 1));
+        assertSame(list, list.withReplaced(1, 0, Collections.emptyList()));
+    }
+
+    @Test
+    public void withReplaced_invalidRange_throwsIndexOutOfBoundsException() {
+        ChunkedList<Integer> list = ChunkedList.of(List.of(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(-1, 0, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(3, 0, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(1, 2, List.of()));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(0, -1, List.of()));
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        ChunkedList<Integer> list = ChunkedList.of(List.of(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> ChunkedList.empty().get(0));
+    }
+
+    @Test
+    public void withReplaced_randomChanges_sameAsArrayList() {
+        Random random = new Random(1);
+        List<Integer> expected = new ArrayList<>();
+        ChunkedList<Integer> list = ChunkedList.empty();
+        int nextElement = 0;
+        for (int i = 0; i < 20000; i++) {
+            int from;
+            int removedCount;
+            List<Integer> added;
+            int operation = random.nextInt(10);
+            if (operation < 3 || expected.isEmpty()) {
+                // appending many elements at once fills several chunks
+                from = expected.size();
+                removedCount = 0;
+                added = createElements(nextElement, random.nextInt(operation == 0 ? 3000 : 3));
+            } else if (operation < 6) {
+                from = random.nextInt(expected.size());
+                removedCount = 1;
+                added = createElements(nextElement, 1);
+            } else if (operation < 9) {
+                from = random.nextInt(expected.size());
+                removedCount = 1;
+                added = List.of();
+            } else {
+                from = random.nextInt(expected.size() + 1);
+                removedCount = random.nextInt(expected.size() - from + 1);
+                added = createElements(nextElement, random.nextInt(5));
+            }
+            nextElement += added.size();
+
+            expected.subList(from, from + removedCount).clear();
+            expected.addAll(from, added);
+            list = list.withReplaced(from, removedCount, added);
+            assertEquals(expected.size(), list.size());
+        }
+        assertEquals(expected, list);
+        assertArrayEquals(expected.toArray(), list.toArray());
+    }
+
+    private static List<Integer> createElements(int first, int count) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            elements.add(first + i);
+        }
+        return elements;
+    }
+
+}
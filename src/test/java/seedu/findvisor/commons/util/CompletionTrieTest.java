@@ -0,0 +1,160 @@
+package seedu.findvisor.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class CompletionTrieTest {
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    @BeforeEach
+    public void setUp() {
+        Arrays.asList("Alice Pauline", "Alice Lim", "Alan Tan", "Benson Meier").forEach(trie::add);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void add_newString_containedInTrie() {
+        trie.add("Al");
+        assertTrue(trie.contains("Al"));
+        assertTrue(trie.contains("Alice Lim"));
+        assertFalse(trie.contains("Ali"));
+        assertEquals(5, trie.size());
+    }
+
+    @Test
+    public void add_stringDifferingInCase_keptInFirstCase() {
+        trie.add("alice lim");
+        assertTrue(trie.contains("ALICE LIM"));
+        assertEquals(4, trie.size());
+        assertEquals(Collections.singletonList("Alice Lim"), trie.getCompletions("alice l", 10));
+    }
+
+    @Test
+    public void remove_stringNotInTrie_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Alice"));
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Alice Paulin"));
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Carl"));
+    }
+
+    @Test
+    public void remove_stringAddedTwice_keptUntilRemovedTwice() {
+        trie.add("Alice Lim");
+        trie.remove("Alice Lim");
+        assertTrue(trie.contains("Alice Lim"));
+
+        trie.remove("alice lim");
+        assertFalse(trie.contains("Alice Lim"));
+        assertEquals(3, trie.size());
+        assertThrows(IllegalArgumentException.class, () -> trie.remove("Alice Lim"));
+    }
+
+    @Test
+    public void remove_allStrings_trieEmpty() {
+        Arrays.asList("Alice Pauline", "Alice Lim", "Alan Tan", "Benson Meier").forEach(trie::remove);
+        assertEquals(0, trie.size());
+        assertEquals(Collections.emptyList(), trie.getCompletions("", 10));
+        assertEquals(Optional.empty(), trie.getCommonCompletion(""));
+    }
+
+    @Test
+    public void remove_stringWithLongerStrings_longerStringsKept() {
+        trie.add("Alice");
+        trie.remove("Alice");
+        assertEquals(Arrays.asList("Alice Lim", "Alice Pauline"), trie.getCompletions("Alic", 10));
+
+        trie.add("Alice Pauline Tan");
+        trie.remove("Alice Pauline");
+        assertEquals(Arrays.asList("Alice Lim", "Alice Pauline Tan"), trie.getCompletions("Alice", 10));
+    }
+
+    @Test
+    public void getCompletions_prefix_returnsMatchingStringsInOrder() {
+        assertEquals(Arrays.asList("Alan Tan", "Alice Lim", "Alice Pauline"), trie.getCompletions("al", 10));
+        assertEquals(Arrays.asList("Alice Lim", "Alice Pauline"), trie.getCompletions("Alice", 10));
+        assertEquals(Collections.singletonList("Alice Pauline"), trie.getCompletions("ALICE P", 10));
+        assertEquals(Collections.singletonList("Benson Meier"), trie.getCompletions("Benson Meier", 10));
+        assertEquals(Collections.emptyList(), trie.getCompletions("Alice Paulines", 10));
+        assertEquals(Collections.emptyList(), trie.getCompletions("Carl", 10));
+    }
+
+    @Test
+    public void getCompletions_limit_returnsFirstStrings() {
+        assertEquals(Arrays.asList("Alan Tan", "Alice Lim"), trie.getCompletions("", 2));
+        assertEquals(Collections.emptyList(), trie.getCompletions("", 0));
+        assertThrows(IllegalArgumentException.class, () -> trie.getCompletions("", -1));
+    }
+
+    @Test
+    public void getCommonCompletion_prefix_returnsLongestCommonPrefix() {
+        assertEquals(Optional.of("Al"), trie.getCommonCompletion("a"));
+        assertEquals(Optional.of("Alice "), trie.getCommonCompletion("alic"));
+        assertEquals(Optional.of("Alice Pauline"), trie.getCommonCompletion("alice p"));
+        assertEquals(Optional.of(""), trie.getCommonCompletion(""));
+        assertEquals(Optional.empty(), trie.getCommonCompletion("Carl"));
+    }
+
+    @Test
+    public void getCommonCompletion_prefixOfStringInTrie_stopsAtString() {
+        trie.add("Alice");
+        assertEquals(Optional.of("Alice"), trie.getCommonCompletion("ali"));
+    }
+
+    @Test
+    public void addAndRemove_randomStrings_sameAsSortedSet() {
+        Random random = new Random(42);
+        TreeSet<String> expected = new TreeSet<>();
+        List<String> added = new ArrayList<>();
+        CompletionTrie randomTrie = new CompletionTrie();
+        for (int i = 0; i < 5000; i++) {
+            if (!added.isEmpty() && random.nextInt(3) == 0) {
+                String string = added.remove(random.nextInt(added.size()));
+                randomTrie.remove(string);
+                if (!added.contains(string)) {
+                    expected.remove(string);
+                }
+            } else {
+                String string = randomString(random);
+                randomTrie.add(string);
+                added.add(string);
+                expected.add(string);
+            }
+        }
+
+        assertEquals(expected.size(), randomTrie.size());
+        assertEquals(new ArrayList<>(expected), randomTrie.getCompletions("", expected.size()));
+        for (String prefix : Arrays.asList("a", "ab", "ba", "cab")) {
+            assertEquals(new ArrayList<>(expected.subSet(prefix, prefix + Character.MAX_VALUE)),
+                    randomTrie.getCompletions(prefix, expected.size()));
+        }
+    }
+
+    /**
+     * Returns a short string of the letters a, b and c, so that the strings share many prefixes.
+     */
+    private static String randomString(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int length = 1 + random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(3)));
+        }
+        return builder.toString();
+    }
+}
@@ -109,5 +109,18 @@ public class DateTimeUtilTest {
         assertFalse(DateTimeUtil.isSameDate(LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 30)));
     }
 
-}
+    @Test
+    public void toEpochMinutes() {
+        assertEquals(0, DateTimeUtil.toEpochMinutes(LocalDateTime.of(1970, 1, 1, 0, 0, 59)));
+        assertEquals(-1, DateTimeUtil.toEpochMinutes(LocalDateTime.of(1969, 12, 31, 23, 59, 30)));
+        assertEquals(28442280, DateTimeUtil.toEpochMinutes(LocalDateTime.of(2024, 1, 29, 14, 0)));
+    }
 
+    @Test
+    public void fromEpochMinutes() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 1, 29, 14, 0);
+        assertEquals(dateTime, DateTimeUtil.fromEpochMinutes(DateTimeUtil.toEpochMinutes(dateTime)));
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59), DateTimeUtil.fromEpochMinutes(-1));
+    }
+
+}
@@ -1,12 +1,23 @@
 package seedu.findvisor.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.testutil.SerializableTestClass;
 import seedu.findvisor.testutil.TestUtil;
 
@@ -39,6 +50,88 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compactFormat_noWhitespace() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, JsonFileFormat.COMPACT);
+
+        String json = FileUtil.readFromFile(SERIALIZATION_FILE);
+        assertFalse(json.contains("\n"));
+        assertTrue(json.length() < SerializableTestClass.JSON_STRING_REPRESENTATION.length());
+    }
+
+    @Test
+    public void saveJsonFileIfChanged_sameContent_notWritten() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{}");
+
+        assertTrue(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+        assertEquals(SerializableTestClass.JSON_STRING_REPRESENTATION, FileUtil.readFromFile(SERIALIZATION_FILE));
+        assertFalse(JsonUtil.saveJsonFileIfChanged(serializableTestClass, SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void serializeArrayToJsonFile_failsPartway_previousFileKept() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"values\": [\"a\"]}");
+        Iterator<String> failingValues = Stream.of("b", "c").map(value -> {
+            if (value.equals("c")) {
+                throw new IllegalStateException("failed");
+            }
+            return value;
+        }).iterator();
+
+        assertThrows(IllegalStateException.class, () -> JsonUtil.serializeArrayToJsonFile(SERIALIZATION_FILE,
+                "values", failingValues, JsonFileFormat.COMPACT));
+        assertEquals("{\"values\": [\"a\"]}", FileUtil.readFromFile(SERIALIZATION_FILE));
+        try (Stream<Path> files = Files.list(SERIALIZATION_FILE.toAbsolutePath().getParent())) {
+            assertFalse(files.anyMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"before\": {\"values\": [1]}, \"values\": [\"a\", \"b\"], "
+                + "\"after\": [2]}");
+
+        List<String> values = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values", String.class, values::add));
+        assertEquals(Arrays.asList("a", "b"), values);
+    }
+
+    @Test
+    public void readJsonArrayFile_elementRejected_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"values\": [\"a\", \"b\", \"c\"]}");
+
+        List<String> values = new ArrayList<>();
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "values",
+                String.class, value -> {
+                    if (value.equals("b")) {
+                        throw new IllegalValueException("rejected");
+                    }
+                    values.add(value);
+                }));
+        assertEquals(Arrays.asList("a"), values);
+    }
+
+    @Test
+    public void readJsonFile_anyFormat_detectedAutomatically() throws Exception {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        for (JsonFileFormat format : JsonFileFormat.values()) {
+            JsonUtil.saveJsonFile(serializableTestClass, SERIALIZATION_FILE, format);
+            SerializableTestClass readBack = JsonUtil.readJsonFile(SERIALIZATION_FILE, SerializableTestClass.class)
+                    .get();
+
+            assertEquals(SerializableTestClass.getNameTestValue(), readBack.getName());
+            assertEquals(SerializableTestClass.getListTestValues(), readBack.getListOfLocalDateTimes());
+            assertEquals(SerializableTestClass.getHashMapTestValues(), readBack.getMapOfIntegerToString());
+        }
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
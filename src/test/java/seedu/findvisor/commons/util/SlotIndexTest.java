@@ -0,0 +1,95 @@
+package seedu.findvisor.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class SlotIndexTest {
+
+    private final SlotIndex slotIndex = new SlotIndex();
+
+    @Test
+    public void add_slotsNumberedInOrder() {
+        assertEquals(0, slotIndex.add());
+        assertEquals(1, slotIndex.add());
+        assertEquals(2, slotIndex.add());
+        assertEquals(3, slotIndex.getSlotCount());
+        assertEquals(3, slotIndex.getOccupiedCount());
+        assertEquals(2, slotIndex.getRank(2));
+    }
+
+    @Test
+    public void free_occupiedSlot_laterSlotsRankedLower() {
+        for (int i = 0; i < 5; i++) {
+            slotIndex.add();
+        }
+        slotIndex.free(1);
+        slotIndex.free(3);
+
+        assertFalse(slotIndex.isOccupied(1));
+        assertTrue(slotIndex.isOccupied(2));
+        assertEquals(5, slotIndex.getSlotCount());
+        assertEquals(3, slotIndex.getOccupiedCount());
+        assertEquals(0, slotIndex.getRank(0));
+        assertEquals(1, slotIndex.getRank(2));
+        assertEquals(2, slotIndex.getRank(4));
+        assertEquals(5, slotIndex.add());
+        assertEquals(3, slotIndex.getRank(5));
+    }
+
+    @Test
+    public void free_slotNotOccupied_throwsIllegalArgumentException() {
+        slotIndex.add();
+        slotIndex.free(0);
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.free(0));
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.free(1));
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.free(-1));
+    }
+
+    @Test
+    public void getRank_slotDoesNotExist_throwsIllegalArgumentException() {
+        slotIndex.add();
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.getRank(1));
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.getRank(-1));
+    }
+
+    @Test
+    public void reset_count_allSlotsOccupied() {
+        slotIndex.add();
+        slotIndex.free(0);
+        slotIndex.reset(40);
+
+        assertEquals(40, slotIndex.getSlotCount());
+        assertEquals(40, slotIndex.getOccupiedCount());
+        assertEquals(39, slotIndex.getRank(39));
+        assertEquals(40, slotIndex.add());
+        assertEquals(40, slotIndex.getRank(40));
+        assertThrows(IllegalArgumentException.class, () -> slotIndex.reset(-1));
+    }
+
+    @Test
+    public void addAndFree_randomSlots_sameRanksAsList() {
+        Random random = new Random(42);
+        // The occupied slots in order, so that the rank of a slot is its position in the list
+        List<Integer> occupiedSlots = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (!occupiedSlots.isEmpty() && random.nextInt(3) == 0) {
+                slotIndex.free(occupiedSlots.remove(random.nextInt(occupiedSlots.size())));
+            } else {
+                occupiedSlots.add(slotIndex.add());
+            }
+        }
+
+        assertEquals(occupiedSlots.size(), slotIndex.getOccupiedCount());
+        for (int i = 0; i < occupiedSlots.size(); i++) {
+            assertEquals(i, slotIndex.getRank(occupiedSlots.get(i)));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.findvisor.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+import static seedu.findvisor.testutil.TypicalPersons.DANIEL;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.findvisor.logic.Autocompleter.Completion;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.AddressBookSnapshot;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.testutil.PersonBuilder;
+
+public class AutocompleterTest {
+
+    private static final Person ALICE_LIM = new PersonBuilder().withName("Alice Lim").withPhone("81234567")
+            .withTags("colleagues").build();
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+    private final Autocompleter autocompleter = new Autocompleter(addressBook.getPersonList());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Autocompleter((ObservableList<Person>) null));
+        assertThrows(NullPointerException.class, () -> new Autocompleter((AddressBookSnapshot) null));
+    }
+
+    @Test
+    public void keepUpdated_snapshotOfPersons_completionsUpdated() {
+        Autocompleter snapshotAutocompleter = new Autocompleter(addressBook.getSnapshot());
+        assertEquals(Optional.of(new Completion("find n/Alice Pauline ", Collections.singletonList("Alice Pauline"))),
+                snapshotAutocompleter.complete("find n/al"));
+
+        snapshotAutocompleter.keepUpdated(addressBook.getPersonList());
+        addressBook.addPerson(ALICE_LIM);
+        addressBook.removePerson(ALICE);
+        assertEquals(Optional.of(new Completion("find n/Alice Lim ", Collections.singletonList("Alice Lim"))),
+                snapshotAutocompleter.complete("find n/al"));
+    }
+
+    @Test
+    public void complete_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> autocompleter.complete(null));
+    }
+
+    @Test
+    public void complete_commandWord_completed() {
+        assertCompletion("li", "list ", "list");
+        assertCompletion("  DELETET", "deletetag ", "deletetag");
+
+        // more than one command word -> completed to their common prefix
+        assertCompletion("ad", "add", "add", "addtag");
+        assertCompletion("del", "delete", "delete", "deletetag");
+
+        // not a command word
+        assertNoCompletion("");
+        assertNoCompletion("   ");
+        assertNoCompletion("xyz");
+    }
+
+    @Test
+    public void complete_name_completed() {
+        assertCompletion("find n/al", "find n/Alice Pauline ", "Alice Pauline");
+        assertCompletion("find n/  Daniel M", "find n/Daniel Meier ", "Daniel Meier");
+        assertCompletion("find t/friends n/ben", "find t/friends n/Benson Meier ", "Benson Meier");
+
+        addressBook.addPerson(ALICE_LIM);
+        assertCompletion("find n/al", "find n/Alice ", "Alice Lim", "Alice Pauline");
+
+        // no name starts with the value
+        assertNoCompletion("find n/Zed");
+        assertNoCompletion("find n/");
+        assertNoCompletion("find n/   ");
+    }
+
+    @Test
+    public void complete_tag_completed() {
+        assertCompletion("find t/f", "find t/friends ", "friends");
+        assertCompletion("find n/Alice t/OWES", "find n/Alice t/owesMoney ", "owesMoney");
+
+        // tags cannot contain whitespace
+        assertNoCompletion("find t/friends o");
+        assertNoCompletion("find t/");
+        assertNoCompletion("find t/unknown");
+    }
+
+    @Test
+    public void complete_otherArgument_notCompleted() {
+        assertNoCompletion("find e/alice");
+        assertNoCompletion("find n/Alice p/9435");
+        assertNoCompletion("delete 1");
+    }
+
+    @Test
+    public void complete_personsChanged_completionsUpdated() {
+        addressBook.removePerson(ALICE);
+        assertNoCompletion("find n/al");
+        // other persons are still tagged friends
+        assertCompletion("find t/fr", "find t/friends ", "friends");
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Alice Meier").withTags().build();
+        addressBook.setPerson(BENSON, renamedBenson);
+        assertCompletion("find n/al", "find n/Alice Meier ", "Alice Meier");
+        assertNoCompletion("find n/ben");
+        assertNoCompletion("find t/owes");
+
+        addressBook.addPerson(ALICE_LIM);
+        assertCompletion("find t/co", "find t/colleagues ", "colleagues");
+    }
+
+    @Test
+    public void complete_personsReplaced_completionsUpdated() {
+        addressBook.setPersons(Arrays.asList(CARL, ALICE_LIM, DANIEL));
+        assertCompletion("find n/al", "find n/Alice Lim ", "Alice Lim");
+        assertNoCompletion("find n/ben");
+        assertCompletion("find t/fr", "find t/friends ", "friends");
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.remove(DANIEL);
+        AddressBook mergedAddressBook = new AddressBook();
+        mergedAddressBook.setPersons(persons);
+        addressBook.mergeData(mergedAddressBook);
+        assertNoCompletion("find t/fr");
+        assertCompletion("find n/car", "find n/Carl Kurz ", "Carl Kurz");
+
+        addressBook.setPersons(Collections.emptyList());
+        assertNoCompletion("find n/c");
+        assertCompletion("fi", "find ", "find");
+    }
+
+    private void assertCompletion(String commandText, String expectedCompletedText, String... expectedCompletions) {
+        assertCompletion(commandText, Optional.of(new Completion(expectedCompletedText,
+                Arrays.asList(expectedCompletions))));
+    }
+
+    private void assertNoCompletion(String commandText) {
+        assertCompletion(commandText, Optional.empty());
+    }
+
+    private void assertCompletion(String commandText, Optional<Completion> expectedCompletion) {
+        assertEquals(expectedCompletion, autocompleter.complete(commandText));
+    }
+}
@@ -0,0 +1,158 @@
+package seedu.findvisor.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.DANIEL;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.logic.commands.FindCommand;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.model.UserPrefs;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonNamePredicate;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.StorageManager;
+import seedu.findvisor.testutil.PersonBuilder;
+
+public class LiveSearchTest {
+    private static final long DEBOUNCE_MILLIS = 50;
+    private static final long RESULT_TIMEOUT_MILLIS = 5000;
+    // Long enough for a search that should not be shown to have been shown if it were
+    private static final long NO_RESULT_WAIT_MILLIS = 500;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private BlockingQueue<String> feedback = new LinkedBlockingQueue<>();
+    private Logic liveSearchLogic;
+    private LiveSearch liveSearch;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // Results are shown on the search thread, as there is no UI thread
+        liveSearchLogic = new LogicManager(model, storage);
+        liveSearch = new LiveSearch(liveSearchLogic, Runnable::run, feedback::add, DEBOUNCE_MILLIS);
+    }
+
+    @Test
+    public void search_findCommand_showsMatchingPersons() throws Exception {
+        liveSearch.search("find n/Meier");
+
+        assertEquals(getExpectedFeedback(2, "Meier"), feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_supersededSearch_onlyLatestShown() throws Exception {
+        liveSearch.search("find n/Meier");
+        liveSearch.search("find n/Alice");
+
+        assertEquals(getExpectedFeedback(1, "Alice"), feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertNull(feedback.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Collections.singletonList(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_notValidFindCommand_nothingShown() throws Exception {
+        liveSearch.search("list");
+        liveSearch.search("find");
+        liveSearch.search("find x/Alice");
+
+        assertNull(feedback.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_notValidFindCommandAfterSearch_filterRestored() throws Exception {
+        Predicate<Person> predicateBeforeSearch = person -> !person.equals(ALICE);
+        model.updateFilteredPersonList(predicateBeforeSearch);
+        liveSearch.search("find n/Meier");
+        feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        liveSearch.search("find");
+        assertEquals("", feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(getTypicalAddressBook().getPersonList().filtered(predicateBeforeSearch),
+                model.getFilteredPersonList());
+
+        // the filter is restored only once
+        liveSearch.search("list");
+        assertNull(feedback.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void cancel_shownSearch_filterKept() throws Exception {
+        liveSearch.search("find n/Meier");
+        feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        liveSearch.cancel();
+
+        liveSearch.search("");
+        assertNull(feedback.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_personAddedBeforeResultShown_searchedAgain() throws Exception {
+        Person aliceLim = new PersonBuilder().withName("Alice Lim").withPhone("81234567").build();
+        AtomicBoolean isPersonAdded = new AtomicBoolean();
+        // The person is added after the snapshot was searched, but before its result is shown
+        LiveSearch addingLiveSearch = new LiveSearch(liveSearchLogic, task -> {
+            if (!isPersonAdded.getAndSet(true)) {
+                model.addPersons(Collections.singletonList(aliceLim));
+            }
+            task.run();
+        }, feedback::add, DEBOUNCE_MILLIS);
+        addingLiveSearch.search("find n/Alice");
+
+        assertEquals(getExpectedFeedback(2, "Alice"), feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(Arrays.asList(ALICE, aliceLim), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_pendingSearch_nothingShown() throws Exception {
+        liveSearch.search("find n/Alice");
+        liveSearch.cancel();
+
+        assertNull(feedback.poll(NO_RESULT_WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void search_personEditedAfterSearch_testedWithPredicate() throws Exception {
+        liveSearch.search("find n/Alice");
+        feedback.poll(RESULT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmail("alice@example.org").build();
+        model.setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), model.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Alice Meier").build();
+        model.setPerson(BENSON, renamedBenson);
+        assertEquals(Arrays.asList(editedAlice, renamedBenson), model.getFilteredPersonList());
+    }
+
+    private static String getExpectedFeedback(int count, String keyword) {
+        return String.format(FindCommand.MESSAGE_FIND_COMMAND_RESULT, count,
+                new PersonNamePredicate(keyword).getPredicateDescription());
+    }
+}
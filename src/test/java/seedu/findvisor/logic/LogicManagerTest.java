@@ -1,6 +1,9 @@
 package seedu.findvisor.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.logic.Messages.MESSAGE_ADDRESS_BOOK_LOADING;
 import static seedu.findvisor.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.findvisor.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,7 +15,13 @@ import static seedu.findvisor.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -28,6 +37,7 @@ import seedu.findvisor.model.ModelManager;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 import seedu.findvisor.model.UserPrefs;
 import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.person.PersonNamePredicate;
 import seedu.findvisor.storage.JsonAddressBookStorage;
 import seedu.findvisor.storage.JsonUserPrefsStorage;
 import seedu.findvisor.storage.StorageManager;
@@ -36,11 +46,13 @@ import seedu.findvisor.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final long INDEXING_TIMEOUT_MILLIS = 5000;
 
     @TempDir
     public Path temporaryFolder;
 
     private Model model = new ModelManager();
+    private StorageManager storage;
     private Logic logic;
 
     @BeforeEach
@@ -48,7 +60,7 @@ public class LogicManagerTest {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -70,6 +82,26 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_mutatingCommandWhileLoading_throwsCommandException() {
+        model.setLoading(true);
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY;
+        assertCommandException(addCommand, MESSAGE_ADDRESS_BOOK_LOADING);
+    }
+
+    @Test
+    public void execute_readOnlyCommandWhileLoading_successWithoutSaving() throws Exception {
+        model.setLoading(true);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+
+        // saved once loading has finished
+        model.setLoading(false);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -82,6 +114,68 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void parseFindPredicate() {
+        // valid find command -> predicate returned
+        assertEquals(Optional.of(new PersonNamePredicate("Alice")), logic.parseFindPredicate("find n/Alice"));
+
+        // invalid find command -> empty
+        assertEquals(Optional.empty(), logic.parseFindPredicate("find"));
+
+        // other command -> empty
+        assertEquals(Optional.empty(), logic.parseFindPredicate(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void complete_personAdded_nameCompleted() {
+        assertEquals(Optional.empty(), logic.complete("find n/am"));
+
+        model.addPerson(AMY);
+        assertEquals(Optional.of(new Autocompleter.Completion("find n/Amy Bee ", Collections.singletonList("Amy Bee"))),
+                logic.complete("find n/am"));
+    }
+
+    @Test
+    public void complete_personsIndexedInBackground_completedOnceIndexed() throws Exception {
+        model.addPerson(AMY);
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Logic backgroundLogic = new LogicManager(model, storage, uiTasks::add);
+        assertEquals(Optional.empty(), backgroundLogic.complete("find n/am"));
+
+        uiTasks.poll(INDEXING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).run();
+        assertEquals(Optional.of(new Autocompleter.Completion("find n/Amy Bee ", Collections.singletonList("Amy Bee"))),
+                backgroundLogic.complete("find n/am"));
+    }
+
+    @Test
+    public void complete_personAddedWhileIndexing_personCompleted() throws Exception {
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Logic backgroundLogic = new LogicManager(model, storage, uiTasks::add);
+        model.addPerson(AMY);
+
+        // the persons are indexed again, as the snapshot that was indexed may not have the added person
+        uiTasks.poll(INDEXING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).run();
+        assertEquals(Optional.empty(), backgroundLogic.complete("find n/am"));
+        uiTasks.poll(INDEXING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).run();
+        assertEquals(Optional.of(new Autocompleter.Completion("find n/Amy Bee ", Collections.singletonList("Amy Bee"))),
+                backgroundLogic.complete("find n/am"));
+    }
+
+    @Test
+    public void complete_loading_completedOnceLoadedAndIndexed() throws Exception {
+        model.setLoading(true);
+        BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+        Logic backgroundLogic = new LogicManager(model, storage, uiTasks::add);
+        model.addPerson(AMY);
+        assertEquals(Optional.empty(), backgroundLogic.complete("find n/am"));
+
+        model.setLoading(false);
+        uiTasks.poll(INDEXING_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS).run();
+        assertEquals(Optional.of(new Autocompleter.Completion("find n/Amy Bee ", Collections.singletonList("Amy Bee"))),
+                backgroundLogic.complete("find n/am"));
+        assertTrue(uiTasks.isEmpty());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
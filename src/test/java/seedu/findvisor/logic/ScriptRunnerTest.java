@@ -0,0 +1,125 @@
+package seedu.findvisor.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.storage.DeferredSaveStorage;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.StorageManager;
+import seedu.findvisor.testutil.PersonBuilder;
+import seedu.findvisor.testutil.PersonUtil;
+
+public class ScriptRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream errorOutput = new ByteArrayOutputStream();
+    private DeferredSaveStorage storage;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new DeferredSaveStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, ScriptRunner.MESSAGE_INVALID_SAVE_INTERVAL, ()
+            -> new ScriptRunner(logic, storage, -1, new PrintStream(errorOutput)));
+    }
+
+    @Test
+    public void run_validScript_executesAllCommandsAndSavesOnce() throws Exception {
+        String script = "# clients from the roadshow\n"
+                + PersonUtil.getAddCommand(ALICE) + "\n"
+                + "\n"
+                + PersonUtil.getAddCommand(BENSON) + "\n"
+                + "   " + PersonUtil.getAddCommand(CARL) + "   \n";
+        ScriptRunner.Summary summary = createScriptRunner(0).run(toReader(script));
+
+        assertEquals(3, summary.getExecutedCount());
+        assertEquals(0, summary.getFailedCount());
+        assertEquals(1, summary.getSaveCount());
+        assertEquals(3, model.getAddressBook().getPersonList().size());
+        assertEquals(new AddressBook(model.getAddressBook()), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        String script = PersonUtil.getAddCommand(ALICE) + "\n"
+                + PersonUtil.getAddCommand(BENSON) + "\n"
+                + PersonUtil.getAddCommand(CARL) + "\n";
+        ScriptRunner.Summary summary = createScriptRunner(2).run(toReader(script));
+
+        assertEquals(3, summary.getExecutedCount());
+        assertEquals(2, summary.getSaveCount());
+    }
+
+    @Test
+    public void run_failingCommands_reportedAndSkipped() throws Exception {
+        String script = "unknowncommand\n"
+                + PersonUtil.getAddCommand(ALICE) + "\n"
+                + PersonUtil.getAddCommand(ALICE) + "\n";
+        ScriptRunner.Summary summary = createScriptRunner(0).run(toReader(script));
+
+        assertEquals(3, summary.getExecutedCount());
+        assertEquals(2, summary.getFailedCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(errorOutput.toString().contains(
+                String.format(ScriptRunner.MESSAGE_COMMAND_FAILED, 1, "unknowncommand", MESSAGE_UNKNOWN_COMMAND)));
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        String script = PersonUtil.getAddCommand(ALICE) + "\n"
+                + "exit\n"
+                + PersonUtil.getAddCommand(new PersonBuilder(BENSON).build()) + "\n";
+        ScriptRunner.Summary summary = createScriptRunner(0).run(toReader(script));
+
+        assertEquals(2, summary.getExecutedCount());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(1, summary.getSaveCount());
+    }
+
+    @Test
+    public void run_emptyScript_noSave() throws Exception {
+        ScriptRunner.Summary summary = createScriptRunner(0).run(toReader(""));
+        assertEquals(0, summary.getExecutedCount());
+        assertEquals(0, summary.getSaveCount());
+        assertEquals(0, summary.getCommandsPerSecond(), 0);
+    }
+
+    private ScriptRunner createScriptRunner(int saveInterval) {
+        return new ScriptRunner(logic, storage, saveInterval, new PrintStream(errorOutput));
+    }
+
+    private BufferedReader toReader(String script) {
+        return new BufferedReader(new StringReader(script));
+    }
+
+}
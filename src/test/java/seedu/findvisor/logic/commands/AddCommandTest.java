@@ -10,12 +10,15 @@ import static seedu.findvisor.testutil.TypicalPersons.ALICE;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.findvisor.commons.core.GuiSettings;
+import seedu.findvisor.commons.metrics.CommandMetrics;
 import seedu.findvisor.logic.Messages;
 import seedu.findvisor.logic.commands.exceptions.CommandException;
 import seedu.findvisor.model.AddressBook;
@@ -23,6 +26,7 @@ import seedu.findvisor.model.Model;
 import seedu.findvisor.model.ReadOnlyAddressBook;
 import seedu.findvisor.model.ReadOnlyUserPrefs;
 import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.util.InternPool;
 import seedu.findvisor.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -128,11 +132,26 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int mergeAddressBook(ReadOnlyAddressBook newData) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public InternPool getInternPool() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandMetrics getCommandMetrics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -143,6 +162,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -158,10 +182,30 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Predicate<Person> getFilteredPersonListPredicate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getTodaysMeetingPersonList() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public boolean isLoading() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setLoading(boolean isLoading) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ReadOnlyBooleanProperty loadingProperty() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
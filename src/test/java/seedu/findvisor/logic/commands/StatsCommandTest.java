@@ -0,0 +1,31 @@
+package seedu.findvisor.logic.commands;
+
+import static seedu.findvisor.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    @Test
+    public void execute_showsStatistics() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.getInternPool().intern(new String("Singapore"));
+        addressBook.getInternPool().intern(new String("Singapore"));
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Model expectedModel = new ModelManager(addressBook, new UserPrefs());
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS,
+                addressBook.getPersonList().size(), 1, 2, 0);
+        assertCommandSuccess(new StatsCommand(), model, expectedMessage, expectedModel);
+    }
+
+}
@@ -3,6 +3,7 @@ package seedu.findvisor.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.commons.util.DateTimeUtil.dateTimeToInputString;
+import static seedu.findvisor.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
 import static seedu.findvisor.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.findvisor.logic.commands.CommandTestUtil.REMARK;
@@ -28,6 +29,7 @@ import static seedu.findvisor.testutil.Assert.assertThrows;
 import static seedu.findvisor.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -45,6 +47,7 @@ import seedu.findvisor.logic.commands.RemarkCommand;
 import seedu.findvisor.logic.commands.RescheduleCommand;
 import seedu.findvisor.logic.commands.RescheduleCommand.EditMeetingDescriptor;
 import seedu.findvisor.logic.commands.ScheduleCommand;
+import seedu.findvisor.logic.commands.StatsCommand;
 import seedu.findvisor.logic.commands.UnscheduleCommand;
 import seedu.findvisor.logic.parser.exceptions.ParseException;
 import seedu.findvisor.model.person.Meeting;
@@ -130,6 +133,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_schedule() throws Exception {
         Meeting meeting = createValidMeeting();
@@ -190,6 +199,39 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
     }
 
+    @Test
+    public void parseCommand_uniqueAbbreviation() throws Exception {
+        assertTrue(parser.parseCommand("li") instanceof ListCommand);
+        assertTrue(parser.parseCommand("ex") instanceof ExitCommand);
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand("delete " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "delete, deletetag"), ()
+            -> parser.parseCommand("del 1"));
+    }
+
+    @Test
+    public void parseCommand_clearAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("cl"));
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(Optional.of(FindCommand.COMMAND_WORD), parser.getCommandWord("  find n/Alice"));
+        assertEquals(Optional.of(AddCommand.COMMAND_WORD), parser.getCommandWord(AddCommand.COMMAND_WORD));
+        assertEquals(Optional.empty(), parser.getCommandWord("unknownCommand 1"));
+        assertEquals(Optional.empty(), parser.getCommandWord(""));
+    }
+
+    @Test
+    public void getCommandWords_containsAllCommandWords() {
+        assertTrue(AddressBookParser.getCommandWords().containsAll(Arrays.asList(AddCommand.COMMAND_WORD,
+                ClearCommand.COMMAND_WORD, FindCommand.COMMAND_WORD, ScheduleCommand.COMMAND_WORD)));
+    }
+
 
 
 }
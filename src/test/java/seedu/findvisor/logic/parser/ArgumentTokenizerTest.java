@@ -136,6 +136,16 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_longArgumentValues() {
+        String longValue = "lunch at the usual place, bring the policy documents ".repeat(50).trim();
+        String argsString = "1 p/" + longValue + " -t " + longValue + " p/ second";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertPreamblePresent(argMultimap, "1");
+        assertArgumentPresent(argMultimap, pSlash, longValue, "second");
+        assertArgumentPresent(argMultimap, dashT, longValue);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,115 @@
+package seedu.findvisor.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.findvisor.logic.Messages.MESSAGE_AMBIGUOUS_COMMAND;
+import static seedu.findvisor.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.logic.commands.ClearCommand;
+import seedu.findvisor.logic.commands.Command;
+import seedu.findvisor.logic.commands.ExitCommand;
+import seedu.findvisor.logic.commands.ListCommand;
+import seedu.findvisor.logic.parser.exceptions.ParseException;
+
+public class CommandRegistryTest {
+
+    private final Parser<Command> listParser = arguments -> new ListCommand();
+    private final Parser<Command> lookParser = arguments -> new ListCommand();
+    private final Parser<Command> clearParser = arguments -> new ClearCommand();
+    private final Parser<Command> exitParser = arguments -> new ExitCommand();
+
+    private CommandRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandRegistry();
+        registry.register("list", listParser, "ls");
+        registry.register("look", lookParser);
+        registry.registerWithoutAbbreviation("clear", clearParser);
+        registry.register("exit", exitParser, "quit");
+    }
+
+    @Test
+    public void register_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register(null, listParser));
+        assertThrows(NullPointerException.class, () -> registry.register("new", null));
+        assertThrows(NullPointerException.class, () -> registry.register("new", listParser, (String[]) null));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("list", exitParser));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("new", exitParser, "ls"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("new", exitParser, "nw", "nw"));
+        assertThrows(IllegalArgumentException.class, () -> registry.register("new", exitParser, "new"));
+    }
+
+    @Test
+    public void register_duplicateAlias_nothingRegistered() {
+        assertThrows(IllegalArgumentException.class, () -> registry.register("new", exitParser, "nw", "ls"));
+        assertEquals(Set.of("list", "ls", "look", "clear", "exit", "quit"), registry.getCommandWords());
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("n"));
+    }
+
+    @Test
+    public void getParser_exactCommandWordOrAlias_returnsParser() throws Exception {
+        assertSame(listParser, registry.getParser("list"));
+        assertSame(listParser, registry.getParser("ls"));
+        assertSame(clearParser, registry.getParser("clear"));
+        assertSame(exitParser, registry.getParser("quit"));
+    }
+
+    @Test
+    public void getParser_uniqueAbbreviation_returnsParser() throws Exception {
+        assertSame(listParser, registry.getParser("li"));
+        assertSame(lookParser, registry.getParser("lo"));
+        assertSame(exitParser, registry.getParser("e"));
+        assertSame(exitParser, registry.getParser("qu"));
+    }
+
+    @Test
+    public void getParser_abbreviationOfCommandAndItsAlias_returnsParser() throws Exception {
+        registry.register("lookup", exitParser, "lookupall");
+        assertSame(exitParser, registry.getParser("looku"));
+    }
+
+    @Test
+    public void getParser_ambiguousAbbreviation_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_AMBIGUOUS_COMMAND, "list, look, ls"), ()
+            -> registry.getParser("l"));
+    }
+
+    @Test
+    public void getParser_abbreviationOfNonAbbreviableCommand_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("cle"));
+    }
+
+    @Test
+    public void getParser_unknownCommandWord_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser(""));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("lists"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.getParser("List"));
+    }
+
+    @Test
+    public void resolveCommandWord_aliasesAndAbbreviations_returnsCommandWord() throws Exception {
+        assertEquals("list", registry.resolveCommandWord("list"));
+        assertEquals("list", registry.resolveCommandWord("ls"));
+        assertEquals("list", registry.resolveCommandWord("li"));
+        assertEquals("exit", registry.resolveCommandWord("qu"));
+        assertEquals("clear", registry.resolveCommandWord("clear"));
+        assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> registry.resolveCommandWord("cle"));
+    }
+
+    @Test
+    public void getCommandWords_returnsAllCommandWordsAndAliases() {
+        assertEquals(Set.of("list", "ls", "look", "clear", "exit", "quit"), registry.getCommandWords());
+    }
+
+}
@@ -0,0 +1,56 @@
+package seedu.findvisor.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_MEETING;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_MEETING_REMARK;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.findvisor.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie prefixTrie = new PrefixTrie(PREFIX_NAME, PREFIX_MEETING, PREFIX_MEETING_REMARK,
+            PREFIX_REMARK);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PrefixTrie((Prefix[]) null));
+    }
+
+    @Test
+    public void match_prefixAtIndex_returnsPrefix() {
+        assertEquals(PREFIX_NAME, prefixTrie.match("n/John", 0));
+        assertEquals(PREFIX_MEETING, prefixTrie.match("x m/today", 2));
+        assertEquals(PREFIX_MEETING_REMARK, prefixTrie.match("x mr/lunch", 2));
+        assertEquals(PREFIX_REMARK, prefixTrie.match("r/", 0));
+    }
+
+    @Test
+    public void match_noPrefixAtIndex_returnsNull() {
+        assertNull(prefixTrie.match("John", 0));
+        assertNull(prefixTrie.match("n/John", 1));
+        assertNull(prefixTrie.match("mr", 0)); // incomplete prefix
+        assertNull(prefixTrie.match("p/91234567", 0)); // prefix not in trie
+        assertNull(prefixTrie.match("n/", 2)); // index at end of string
+    }
+
+    @Test
+    public void match_emptyPrefix_ignored() {
+        PrefixTrie trieWithEmptyPrefix = new PrefixTrie(new Prefix(""), PREFIX_NAME);
+        assertNull(trieWithEmptyPrefix.match("John", 0));
+        assertEquals(PREFIX_NAME, trieWithEmptyPrefix.match("n/John", 0));
+    }
+
+    @Test
+    public void match_overlappingPrefixes_returnsLongestMatch() {
+        Prefix shortPrefix = new Prefix("t/");
+        Prefix longPrefix = new Prefix("t/x");
+        PrefixTrie overlappingTrie = new PrefixTrie(shortPrefix, longPrefix);
+        assertEquals(longPrefix, overlappingTrie.match("t/xyz", 0));
+        assertEquals(shortPrefix, overlappingTrie.match("t/yz", 0));
+    }
+
+}
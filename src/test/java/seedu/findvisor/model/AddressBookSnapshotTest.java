@@ -0,0 +1,74 @@
+package seedu.findvisor.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.model.person.Person;
+
+public class AddressBookSnapshotTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AddressBookSnapshot(0, null));
+    }
+
+    @Test
+    public void constructor_sourceModified_snapshotUnchanged() {
+        List<Person> source = new ArrayList<>(List.of(ALICE));
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(1, source);
+        source.add(BENSON);
+        assertEquals(List.of(ALICE), snapshot.getPersons());
+        assertEquals(List.of(ALICE), snapshot.getPersonList());
+    }
+
+    @Test
+    public void getPersons_modify_throwsUnsupportedOperationException() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(1, List.of(ALICE));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersons().add(BENSON));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().add(BENSON));
+    }
+
+    @Test
+    public void getSnapshot_returnsSelf() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(1, List.of(ALICE));
+        assertSame(snapshot, snapshot.getSnapshot());
+    }
+
+    @Test
+    public void equals() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(1, List.of(ALICE));
+
+        // same values -> returns true
+        assertTrue(snapshot.equals(new AddressBookSnapshot(1, List.of(ALICE))));
+
+        // same object -> returns true
+        assertTrue(snapshot.equals(snapshot));
+
+        // null -> returns false
+        assertFalse(snapshot.equals(null));
+
+        // different version -> returns false
+        assertFalse(snapshot.equals(new AddressBookSnapshot(2, List.of(ALICE))));
+
+        // different persons -> returns false
+        assertFalse(snapshot.equals(new AddressBookSnapshot(1, List.of(BENSON))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(1, List.of(ALICE));
+        String expected = AddressBookSnapshot.class.getCanonicalName() + "{version=1, persons=" + List.of(ALICE) + "}";
+        assertEquals(expected, snapshot.toString());
+    }
+
+}
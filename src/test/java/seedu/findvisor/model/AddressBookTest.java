@@ -2,11 +2,14 @@ package seedu.findvisor.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.findvisor.testutil.Assert.assertThrows;
 import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
 import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -31,6 +34,13 @@ public class AddressBookTest {
         assertEquals(Collections.emptyList(), addressBook.getPersonList());
     }
 
+    @Test
+    public void constructor_copyOfAddressBook_sharesInternPool() {
+        AddressBook copy = new AddressBook(addressBook);
+        assertSame(addressBook.getInternPool(), copy.getInternPool());
+        assertNotSame(addressBook.getInternPool(), new AddressBook(addressBook.getSnapshot()).getInternPool());
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -83,6 +93,100 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_newAddressBook_returnsEmptySnapshot() {
+        assertEquals(AddressBookSnapshot.EMPTY, addressBook.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_afterModification_reflectsModificationWithNewVersion() {
+        AddressBookSnapshot before = addressBook.getSnapshot();
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot afterAdd = addressBook.getSnapshot();
+        assertEquals(List.of(ALICE), afterAdd.getPersons());
+        assertTrue(afterAdd.getVersion() > before.getVersion());
+
+        addressBook.setPerson(ALICE, BENSON);
+        AddressBookSnapshot afterSet = addressBook.getSnapshot();
+        assertEquals(List.of(BENSON), afterSet.getPersons());
+        assertTrue(afterSet.getVersion() > afterAdd.getVersion());
+
+        addressBook.removePerson(BENSON);
+        AddressBookSnapshot afterRemove = addressBook.getSnapshot();
+        assertEquals(List.of(), afterRemove.getPersons());
+        assertTrue(afterRemove.getVersion() > afterSet.getVersion());
+
+        // earlier snapshots are unaffected by later modifications
+        assertEquals(List.of(), before.getPersons());
+        assertEquals(List.of(ALICE), afterAdd.getPersons());
+    }
+
+    @Test
+    public void getSnapshot_failedModification_keepsVersion() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot before = addressBook.getSnapshot();
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPerson(ALICE));
+        assertEquals(before, addressBook.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_iteratedWhileModifiedOnAnotherThread_isUnaffected() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        List<Person> expectedPersons = List.copyOf(snapshot.getPersons());
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                Person person = new PersonBuilder().withName("Writer " + (char) ('a' + i % 26) + i).build();
+                addressBook.addPerson(person);
+                addressBook.removePerson(person);
+            }
+        });
+        writer.start();
+        for (int i = 0; i < 200; i++) {
+            assertEquals(expectedPersons, List.copyOf(snapshot.getPersons()));
+        }
+        writer.join();
+    }
+
+    @Test
+    public void getSnapshot_unmodified_returnsSameSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        assertSame(snapshot, addressBook.getSnapshot());
+    }
+
+    @Test
+    public void getSnapshot_takenWhileModifiedOnAnotherThread_isConsistent() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        List<Person> typicalPersons = List.copyOf(addressBook.getPersonList());
+
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 200; i++) {
+                Person person = new PersonBuilder().withName("Writer " + (char) ('a' + i % 26) + i).build();
+                addressBook.addPerson(person);
+                addressBook.removePerson(person);
+            }
+        });
+        writer.start();
+        for (int i = 0; i < 200; i++) {
+            List<Person> persons = addressBook.getSnapshot().getPersons();
+            assertEquals(typicalPersons, persons.subList(0, typicalPersons.size()));
+            assertTrue(persons.size() <= typicalPersons.size() + 1);
+        }
+        writer.join();
+        assertEquals(typicalPersons, addressBook.getSnapshot().getPersons());
+    }
+
+    @Test
+    public void mergeData_changedData_publishesSnapshot() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot before = addressBook.getSnapshot();
+        assertEquals(1, addressBook.mergeData(new AddressBookStub(List.of(ALICE, BENSON))));
+        assertEquals(List.of(ALICE, BENSON), addressBook.getSnapshot().getPersons());
+        assertTrue(addressBook.getSnapshot().getVersion() > before.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -103,6 +207,11 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public AddressBookSnapshot getSnapshot() {
+            return new AddressBookSnapshot(0, persons);
+        }
     }
 
 }
@@ -87,6 +87,19 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void mergeAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.mergeAddressBook(null));
+    }
+
+    @Test
+    public void mergeAddressBook_changedAddressBook_updatesFilteredPersonList() {
+        modelManager.addPerson(ALICE);
+        AddressBook newData = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        assertEquals(1, modelManager.mergeAddressBook(newData));
+        assertEquals(newData.getPersonList(), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
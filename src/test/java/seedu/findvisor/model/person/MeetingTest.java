@@ -1,6 +1,7 @@
 package seedu.findvisor.model.person;
 
 //@@author Dethada
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -89,5 +90,20 @@ public class MeetingTest {
         // different remark -> returns false
         assertFalse(meeting.equals(new Meeting(START, END, "Different remark")));
     }
+
+    @Test
+    public void equals_differentSeconds_returnsTrueWithSameHashCode() {
+        Meeting meeting = new Meeting(START, END, VALID_MEETING_REMARK);
+        Meeting meetingWithSeconds = new Meeting(START.plusSeconds(30), END.plusNanos(1), VALID_MEETING_REMARK);
+        assertTrue(meeting.equals(meetingWithSeconds));
+        assertEquals(meeting.hashCode(), meetingWithSeconds.hashCode());
+    }
+
+    @Test
+    public void getStartAndEnd_truncatedToMinutes() {
+        Meeting meeting = new Meeting(START.plusSeconds(30), END.plusNanos(1), VALID_MEETING_REMARK);
+        assertEquals(START, meeting.getStart());
+        assertEquals(END, meeting.getEnd());
+    }
 }
 //@@author
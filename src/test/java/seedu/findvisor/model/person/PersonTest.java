@@ -92,6 +92,20 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
     }
 
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+        // cached hash code is returned on later calls
+        assertEquals(ALICE.hashCode(), ALICE.hashCode());
+
+        // once hash codes are cached, they are used to rule out inequality
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        editedAlice.hashCode();
+        assertFalse(ALICE.equals(editedAlice));
+        assertTrue(ALICE.equals(aliceCopy));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
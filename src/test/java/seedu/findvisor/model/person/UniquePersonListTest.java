@@ -2,19 +2,24 @@ package seedu.findvisor.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.findvisor.testutil.Assert.assertThrows;
 import static seedu.findvisor.testutil.TypicalPersons.ALICE;
 import static seedu.findvisor.testutil.TypicalPersons.BOB;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+import static seedu.findvisor.testutil.TypicalPersons.DANIEL;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.findvisor.model.person.exceptions.DuplicatePersonException;
 import seedu.findvisor.model.person.exceptions.PersonNotFoundException;
 import seedu.findvisor.testutil.PersonBuilder;
@@ -58,6 +63,34 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_newPersons_addedInSingleChange() {
+        uniquePersonList.add(ALICE);
+        List<ListChangeListener.Change<? extends Person>> changes = new ArrayList<>();
+        ListChangeListener<Person> recordChange = changes::add;
+        uniquePersonList.asUnmodifiableObservableList().addListener(recordChange);
+        uniquePersonList.addAll(Arrays.asList(BOB, CARL));
+
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+        uniquePersonList.remove(BOB);
+        assertTrue(uniquePersonList.contains(CARL));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -109,6 +142,24 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_oldIdentityNoLongerContained() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertEquals(List.of(BOB, CARL, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPerson_targetHasSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPerson(editedAlice, BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -127,6 +178,50 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(editedAlice));
+    }
+
+    @Test
+    public void remove_personBeforeOtherPersons_laterPersonsStillFound() {
+        uniquePersonList.setPersons(List.of(ALICE, BOB, CARL, DANIEL));
+        uniquePersonList.remove(BOB);
+        uniquePersonList.setPerson(DANIEL, BOB);
+        uniquePersonList.remove(CARL);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void remove_manyPersons_remainingPersonsFound() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build());
+        }
+        uniquePersonList.addAll(persons);
+
+        // remove every person but each tenth one, from the front so that the persons after them move each time
+        List<Person> remainingPersons = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (i % 10 == 0) {
+                remainingPersons.add(persons.get(i));
+            } else {
+                uniquePersonList.remove(persons.get(i));
+            }
+        }
+
+        assertEquals(remainingPersons, uniquePersonList.asUnmodifiableObservableList());
+        Person lastPerson = remainingPersons.get(remainingPersons.size() - 1);
+        Person editedLastPerson = new PersonBuilder(lastPerson).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(lastPerson, editedLastPerson);
+        assertSame(editedLastPerson, uniquePersonList.asUnmodifiableObservableList().get(remainingPersons.size() - 1));
+        uniquePersonList.remove(remainingPersons.get(1));
+        assertFalse(uniquePersonList.contains(remainingPersons.get(1)));
+        assertEquals(remainingPersons.size() - 1, uniquePersonList.asUnmodifiableObservableList().size());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -162,6 +257,64 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void mergePersons_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.mergePersons(null));
+    }
+
+    @Test
+    public void mergePersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void mergePersons_unchangedPersons_keepsExistingInstances() {
+        uniquePersonList.add(ALICE);
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(0, uniquePersonList.mergePersons(List.of(aliceCopy)));
+        assertSame(ALICE, uniquePersonList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void mergePersons_changedPersons_appliesOnlyChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        List<Integer> changedPersonCounts = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener(recordChangedPersonCounts(changedPersonCounts));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        // Alice edited, Bob removed, Carl unchanged, Daniel added
+        assertEquals(3, uniquePersonList.mergePersons(List.of(DANIEL, CARL, editedAlice)));
+
+        assertEquals(List.of(editedAlice, CARL, DANIEL), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(List.of(1, 1, 1), changedPersonCounts);
+        // positions are updated after the removal
+        assertTrue(uniquePersonList.contains(DANIEL));
+        uniquePersonList.remove(DANIEL);
+        assertEquals(List.of(editedAlice, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_manyChangedPersons_appliesChangesInSingleUpdate() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build());
+        }
+        uniquePersonList.addAll(persons.subList(0, 50));
+        List<Integer> changedPersonCounts = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener(recordChangedPersonCounts(changedPersonCounts));
+
+        // the first 25 persons removed, the next 25 unchanged, and 50 persons added
+        assertEquals(75, uniquePersonList.mergePersons(persons.subList(25, 100)));
+
+        assertEquals(persons.subList(25, 100), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(1, changedPersonCounts.size());
+        uniquePersonList.remove(persons.get(99));
+        assertFalse(uniquePersonList.contains(persons.get(99)));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +325,17 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    /**
+     * Returns a listener that records the number of persons added or removed in each change to the list it listens to.
+     */
+    private static ListChangeListener<Person> recordChangedPersonCounts(List<Integer> changedPersonCounts) {
+        return change -> {
+            int changedPersonCount = 0;
+            while (change.next()) {
+                changedPersonCount += Math.max(change.getAddedSize(), change.getRemovedSize());
+            }
+            changedPersonCounts.add(changedPersonCount);
+        };
+    }
 }
@@ -0,0 +1,73 @@
+package seedu.findvisor.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag COLLEAGUES = new Tag("colleagues");
+    private static final Tag NEIGHBOURS = new Tag("neighbours");
+
+    private final TagSet tagSet = TagSet.of(Set.of(NEIGHBOURS, FRIENDS, COLLEAGUES));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void of_emptySet_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(Set.of()));
+    }
+
+    @Test
+    public void of_tagSet_returnsSameSet() {
+        assertSame(tagSet, TagSet.of(tagSet));
+    }
+
+    @Test
+    public void iterator_sortedByTagName() {
+        assertEquals(List.of(COLLEAGUES, FRIENDS, NEIGHBOURS), new ArrayList<>(tagSet));
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(tagSet.contains(new Tag("friends")));
+        assertFalse(tagSet.contains(new Tag("family")));
+        assertFalse(tagSet.contains(null));
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = new HashSet<>(List.of(FRIENDS, COLLEAGUES, NEIGHBOURS));
+        assertEquals(hashSet, tagSet);
+        assertEquals(tagSet, hashSet);
+        assertEquals(hashSet.hashCode(), tagSet.hashCode());
+        assertFalse(tagSet.equals(TagSet.of(Set.of(FRIENDS))));
+        assertTrue(tagSet.equals(TagSet.of(hashSet)));
+        assertFalse(tagSet.equals(TagSet.of(Set.of(FRIENDS, COLLEAGUES, new Tag("family")))));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.add(new Tag("family")));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.remove(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeAll(Set.of()));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.retainAll(Set.of()));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.removeIf(tag -> false));
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tagSet.iterator().remove());
+    }
+
+}
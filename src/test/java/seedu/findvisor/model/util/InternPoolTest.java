@@ -0,0 +1,57 @@
+package seedu.findvisor.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.model.tag.Tag;
+
+public class InternPoolTest {
+
+    private final InternPool internPool = new InternPool();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> internPool.intern(null));
+        assertThrows(NullPointerException.class, () -> internPool.internTag(null));
+    }
+
+    @Test
+    public void intern_equalStrings_returnsFirstString() {
+        String value = new String("Blk 30 Geylang Street 29");
+        String equalValue = new String("Blk 30 Geylang Street 29");
+        assertNotSame(value, equalValue);
+
+        assertSame(value, internPool.intern(value));
+        assertSame(value, internPool.intern(equalValue));
+        assertEquals(2, internPool.getLookupCount());
+        assertEquals(1, internPool.getSharedCount());
+        // 24-byte String plus a 16-byte array header and 24 characters
+        assertEquals(64, internPool.getSavedBytes());
+    }
+
+    @Test
+    public void internTag_equalNames_returnsSameTag() {
+        Tag tag = internPool.internTag(new String("friends"));
+        assertSame(tag, internPool.internTag(new String("friends")));
+        assertNotSame(tag, internPool.internTag("colleagues"));
+        assertEquals(new Tag("friends"), tag);
+        assertEquals(3, internPool.getLookupCount());
+        assertEquals(1, internPool.getSharedCount());
+    }
+
+    @Test
+    public void internTag_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> internPool.internTag("not valid"));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = InternPool.class.getCanonicalName() + "{lookupCount=0, sharedCount=0, savedBytes=0}";
+        assertEquals(expected, internPool.toString());
+    }
+
+}
@@ -0,0 +1,62 @@
+package seedu.findvisor.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.person.Person;
+
+public class PersonGeneratorTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 4, 1);
+
+    @Test
+    public void constructor_invalidMeetingDensity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonGenerator(0, BASE_DATE, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new PersonGenerator(0, BASE_DATE, 1.1));
+    }
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonGenerator(0, BASE_DATE).generatePersons(-1));
+    }
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        assertEquals(generate(1, 100), generate(1, 100));
+        assertNotEquals(generate(1, 100), generate(2, 100));
+    }
+
+    @Test
+    public void generateAddressBook_largeCount_uniquePhones() {
+        // Adding a person with the phone of another throws DuplicatePersonException
+        AddressBook addressBook = new PersonGenerator(3, BASE_DATE).generateAddressBook(20000);
+        assertEquals(20000, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void generatePersons_meetingDensity_meetingsAroundBaseDate() {
+        List<Person> persons = new PersonGenerator(4, BASE_DATE, 1).generatePersons(100)
+                .collect(Collectors.toList());
+        for (Person person : persons) {
+            LocalDate meetingDate = person.getMeeting().get().getStart().toLocalDate();
+            assertTrue(!meetingDate.isBefore(BASE_DATE.minusDays(60)) && !meetingDate.isAfter(BASE_DATE.plusDays(60)));
+        }
+
+        assertTrue(new PersonGenerator(4, BASE_DATE, 0).generatePersons(100)
+                .allMatch(person -> person.getMeeting().isEmpty()));
+    }
+
+    private List<Person> generate(long seed, int count) {
+        return new PersonGenerator(seed, BASE_DATE).generatePersons(count).collect(Collectors.toList());
+    }
+
+}
@@ -0,0 +1,10 @@
+package seedu.findvisor.performance;
+
+public class AddressBook100kPerformanceTest extends AddressBookPerformanceTest {
+
+    @Override
+    protected int getPersonCount() {
+        return 100000;
+    }
+
+}
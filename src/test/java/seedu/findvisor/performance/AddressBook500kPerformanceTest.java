@@ -0,0 +1,10 @@
+package seedu.findvisor.performance;
+
+public class AddressBook500kPerformanceTest extends AddressBookPerformanceTest {
+
+    @Override
+    protected int getPersonCount() {
+        return 500000;
+    }
+
+}
@@ -0,0 +1,215 @@
+package seedu.findvisor.performance;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import seedu.findvisor.GenerateMain;
+import seedu.findvisor.commons.util.DateTimeUtil;
+import seedu.findvisor.logic.Logic;
+import seedu.findvisor.logic.LogicManager;
+import seedu.findvisor.logic.commands.DeleteCommand;
+import seedu.findvisor.logic.commands.FindCommand;
+import seedu.findvisor.logic.commands.ListCommand;
+import seedu.findvisor.logic.commands.ScheduleCommand;
+import seedu.findvisor.model.Model;
+import seedu.findvisor.model.ModelManager;
+import seedu.findvisor.model.UserPrefs;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.storage.DeferredSaveStorage;
+import seedu.findvisor.storage.JsonAddressBookStorage;
+import seedu.findvisor.storage.JsonUserPrefsStorage;
+import seedu.findvisor.storage.StorageManager;
+import seedu.findvisor.testutil.PerformanceBaseline;
+
+/**
+ * Measures loading, searching, editing and saving a large generated address book, and checks each measurement
+ * against its budget in the performance baseline. Run with {@code gradlew performanceTest}; these tests are not
+ * run by {@code gradlew test}.
+ */
+@Tag("performance")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class AddressBookPerformanceTest {
+    private static final Path BASELINE_FILE = Paths.get("src", "test", "data", "PerformanceTest", "baseline.json");
+    private static final long SEED = 1;
+    // Each measurement is the fastest of these runs, after one run to warm up
+    private static final int RUNS = 3;
+    // Each heap measurement is the least heap used after any of these garbage collections
+    private static final int GC_COUNT = 5;
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private PerformanceBaseline baseline;
+    private Path temporaryFolder;
+    private StorageManager storage;
+    private Model model;
+    private Logic logic;
+
+    /**
+     * Returns the number of persons in the address book that is measured.
+     */
+    protected abstract int getPersonCount();
+
+    @BeforeAll
+    public void setUp() throws Exception {
+        baseline = PerformanceBaseline.read(BASELINE_FILE);
+        temporaryFolder = Files.createTempDirectory("findvisor-performance");
+        Path addressBookFile = temporaryFolder.resolve("addressBook.json");
+        GenerateMain.generate(addressBookFile, getPersonCount(), SEED, LocalDate.now());
+
+        storage = new StorageManager(new JsonAddressBookStorage(addressBookFile),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = loadModel();
+        // Commands are measured without saving, which is measured on its own
+        logic = new LogicManager(model, new DeferredSaveStorage(storage));
+    }
+
+    @AfterAll
+    public void tearDown() throws IOException {
+        baseline.saveIfUpdating(BASELINE_FILE);
+        List<Path> files;
+        try (Stream<Path> walkedFiles = Files.walk(temporaryFolder)) {
+            // Files are deleted before the folders that contain them
+            files = walkedFiles.sorted(Comparator.reverseOrder()).collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void load_withinBudget() throws Exception {
+        assertMillisWithinBudget("load.millis", measureMillis(this::loadModel));
+    }
+
+    @Test
+    public void load_retainedHeapWithinBudget() throws Exception {
+        long retainedBytesBefore = getRetainedHeapBytes();
+        Model loadedModel = loadModel();
+        long retainedBytes = getRetainedHeapBytes() - retainedBytesBefore;
+        Reference.reachabilityFence(loadedModel);
+        assertWithinBudget("load.heapMegabytes", retainedBytes / BYTES_PER_MEGABYTE);
+    }
+
+    @Test
+    public void find_eachField_withinBudget() throws Exception {
+        Map<String, String> keywordsByField = new LinkedHashMap<>();
+        keywordsByField.put("name", "n/tan");
+        keywordsByField.put("phone", "p/9123");
+        keywordsByField.put("email", "e/gmail");
+        keywordsByField.put("address", "a/Ang Mo Kio");
+        keywordsByField.put("remark", "r/house");
+        keywordsByField.put("meeting", "m/" + DateTimeUtil.dateToString(LocalDate.now()));
+        keywordsByField.put("meetingRemark", "mr/review");
+        keywordsByField.put("tag", "t/family");
+
+        for (Map.Entry<String, String> entry : keywordsByField.entrySet()) {
+            String command = FindCommand.COMMAND_WORD + " " + entry.getValue();
+            assertMillisWithinBudget("find." + entry.getKey() + ".millis",
+                    measureMillis(() -> logic.execute(command)));
+        }
+    }
+
+    @Test
+    public void schedule_withinBudget() throws Exception {
+        String meetingDate = DateTimeUtil.dateToString(LocalDate.now().plusDays(1));
+        String[] command = new String[1];
+        // A person can only have one meeting, so each run schedules a meeting with a different person
+        Measured findPersonWithoutMeeting = () -> {
+            logic.execute(ListCommand.COMMAND_WORD);
+            List<Person> persons = model.getFilteredPersonList();
+            int index = 0;
+            while (persons.get(index).getMeeting().isPresent()) {
+                index++;
+            }
+            command[0] = ScheduleCommand.COMMAND_WORD + " " + (index + 1) + " s/" + meetingDate + "T10:00 e/"
+                    + meetingDate + "T11:00";
+        };
+        assertMillisWithinBudget("schedule.millis",
+                measureMillis(findPersonWithoutMeeting, () -> logic.execute(command[0])));
+    }
+
+    @Test
+    public void delete_withinBudget() throws Exception {
+        assertMillisWithinBudget("delete.millis", measureMillis(() -> logic.execute(ListCommand.COMMAND_WORD),
+                () -> logic.execute(DeleteCommand.COMMAND_WORD + " 1")));
+    }
+
+    @Test
+    public void save_withinBudget() throws Exception {
+        assertMillisWithinBudget("save.millis", measureMillis(() -> storage.saveAddressBook(model.getAddressBook())));
+    }
+
+    private Model loadModel() throws Exception {
+        return new ModelManager(storage.readAddressBook().get(), new UserPrefs());
+    }
+
+    private void assertWithinBudget(String measurement, long measured) {
+        baseline.assertWithinBudget(getPersonCount() + "." + measurement, measured);
+    }
+
+    private void assertMillisWithinBudget(String measurement, long measuredMillis) {
+        baseline.assertMillisWithinBudget(getPersonCount() + "." + measurement, measuredMillis);
+    }
+
+    /**
+     * Returns the bytes of heap in use after a full garbage collection, as the least of several collections, so that
+     * garbage left behind by any one collection is not counted.
+     */
+    private static long getRetainedHeapBytes() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long retainedBytes = Long.MAX_VALUE;
+        for (int i = 0; i < GC_COUNT; i++) {
+            System.gc();
+            retainedBytes = Math.min(retainedBytes, memory.getHeapMemoryUsage().getUsed());
+        }
+        return retainedBytes;
+    }
+
+    private long measureMillis(Measured action) throws Exception {
+        return measureMillis(() -> { }, action);
+    }
+
+    /**
+     * Returns the shortest time taken by {@code action} over several runs, in milliseconds.
+     * {@code setUp} is run before each run of {@code action}, and is not measured.
+     */
+    private long measureMillis(Measured setUp, Measured action) throws Exception {
+        setUp.run();
+        action.run();
+
+        long shortestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            setUp.run();
+            long startTime = System.nanoTime();
+            action.run();
+            shortestNanos = Math.min(shortestNanos, System.nanoTime() - startTime);
+        }
+        return shortestNanos / 1_000_000;
+    }
+
+    /**
+     * An action whose duration is measured.
+     */
+    @FunctionalInterface
+    private interface Measured {
+        void run() throws Exception;
+    }
+
+}
@@ -0,0 +1,74 @@
+package seedu.findvisor.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.model.AddressBook;
+
+public class DeferredSaveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private DeferredSaveStorage deferredSaveStorage;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        deferredSaveStorage = new DeferredSaveStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DeferredSaveStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_beforeFlush_notWritten() throws Exception {
+        deferredSaveStorage.saveAddressBook(getTypicalAddressBook());
+        assertTrue(deferredSaveStorage.hasPendingSave());
+        assertFalse(deferredSaveStorage.readAddressBook().isPresent());
+        assertEquals(0, deferredSaveStorage.getSaveCount());
+    }
+
+    @Test
+    public void flush_multipleSaves_writesLatestAddressBookOnce() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        deferredSaveStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        deferredSaveStorage.saveAddressBook(addressBook);
+        deferredSaveStorage.flush();
+
+        assertFalse(deferredSaveStorage.hasPendingSave());
+        assertEquals(1, deferredSaveStorage.getSaveCount());
+        assertEquals(addressBook, new AddressBook(deferredSaveStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_noPendingSave_doesNothing() throws Exception {
+        deferredSaveStorage.flush();
+        assertEquals(0, deferredSaveStorage.getSaveCount());
+        assertFalse(deferredSaveStorage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_withFilePath_writtenImmediately() throws Exception {
+        Path otherFilePath = testFolder.resolve("other");
+        deferredSaveStorage.saveAddressBook(getTypicalAddressBook(), otherFilePath);
+        assertFalse(deferredSaveStorage.hasPendingSave());
+        assertEquals(getTypicalAddressBook(),
+                new AddressBook(deferredSaveStorage.readAddressBook(otherFilePath).get()));
+    }
+
+}
@@ -0,0 +1,210 @@
+package seedu.findvisor.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+import static seedu.findvisor.testutil.TypicalPersons.HOON;
+import static seedu.findvisor.testutil.TypicalPersons.IDA;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.testutil.PersonBuilder;
+
+public class JdbcAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<JdbcAddressBookStorage> storages = new ArrayList<>();
+
+    /**
+     * Closes the databases opened by the test, so that the temporary folder can be deleted.
+     */
+    @AfterEach
+    public void tearDown() throws Exception {
+        for (JdbcAddressBookStorage storage : storages) {
+            storage.close();
+        }
+    }
+
+    @Test
+    public void constructor_pathWithoutExtension_addsExtension() {
+        Path filePath = testFolder.resolve("addressbook");
+        assertEquals(testFolder.resolve("addressbook" + JdbcAddressBookStorage.FILE_EXTENSION),
+                createStorage(filePath).getAddressBookFilePath());
+    }
+
+    @Test
+    public void isDatabaseFile() {
+        assertTrue(JdbcAddressBookStorage.isDatabaseFile(Path.of("data", "addressbook.mv.db")));
+        assertFalse(JdbcAddressBookStorage.isDatabaseFile(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(createStorage(testFolder.resolve("missing")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidPerson_throwsDataLoadingException() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        executeSql(storage.getAddressBookFilePath(), "UPDATE persons SET phone = 'not a phone'");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataLoadingException() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        executeSql(storage.getAddressBookFilePath(), "UPDATE persons SET phone = '94351253'");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.mv.db");
+        AddressBook original = getTypicalAddressBook();
+        JdbcAddressBookStorage storage = createStorage(filePath);
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, filePath);
+        readBack = storage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original); // file path not specified
+        readBack = storage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyWritesChangedPersons() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // add
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWriteCount());
+
+        // edit, keeping the position of the edited person
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).withMeeting(CARL.getMeeting())
+                .build();
+        addressBook.setPerson(BENSON, editedBenson);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWriteCount());
+
+        // delete
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveWriteCount());
+
+        // no change
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, storage.getLastSaveWriteCount());
+
+        assertEquals(addressBook, new AddressBook(createStorage(storage.getAddressBookFilePath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_severalChangesBetweenSaves_keepsOrder() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withMeeting(Optional.empty()).build());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(createStorage(storage.getAddressBookFilePath())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_clearedAddressBook_deletesAllPersons() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void close_thenUsedAgain_reopensDatabase() throws Exception {
+        JdbcAddressBookStorage storage = createStorage(testFolder.resolve("addressbook"));
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.close();
+        storage.close();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+        storage.close();
+    }
+
+    private JdbcAddressBookStorage createStorage(Path filePath) {
+        JdbcAddressBookStorage storage = new JdbcAddressBookStorage(filePath);
+        storages.add(storage);
+        return storage;
+    }
+
+    private static void executeSql(Path databaseFile, String sql) throws Exception {
+        String databasePath = databaseFile.toAbsolutePath().toString();
+        String databaseName = databasePath.substring(0,
+                databasePath.length() - JdbcAddressBookStorage.FILE_EXTENSION.length());
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databaseName);
+                Statement statement = connection.createStatement()) {
+            statement.executeUpdate(sql);
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.findvisor.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.testutil.Assert.assertThrows;
 import static seedu.findvisor.testutil.TypicalPersons.ALICE;
 import static seedu.findvisor.testutil.TypicalPersons.HOON;
@@ -9,15 +10,25 @@ import static seedu.findvisor.testutil.TypicalPersons.IDA;
 import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.findvisor.commons.core.StartupTracer;
 import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.JsonFileFormat;
 import seedu.findvisor.model.AddressBook;
 import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.model.util.InternPool;
+import seedu.findvisor.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +97,93 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_withTracer_phasesRecorded() throws Exception {
+        Path filePath = testFolder.resolve("TracedAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        StartupTracer tracer = new StartupTracer();
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath, tracer).get();
+        assertEquals(original, new AddressBook(readBack));
+        // the uniqueness check is part of converting to the model type, so it is recorded first
+        assertEquals(Arrays.asList("json parse", "uniqueness check", "to model type"),
+                tracer.getPhases().stream().map(StartupTracer.Phase::getName).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allFormats_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (JsonFileFormat format : JsonFileFormat.values()) {
+            Path filePath = testFolder.resolve(format + ".json");
+            new JsonAddressBookStorage(filePath, format).saveAddressBook(original);
+
+            // files in any format are read by a storage that saves in the default format
+            ReadOnlyAddressBook readBack = new JsonAddressBookStorage(filePath).readAddressBook().get();
+            assertEquals(original, new AddressBook(readBack));
+        }
+    }
+
+    @Test
+    public void readPersons_allFormats_readInBatches() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (JsonFileFormat format : JsonFileFormat.values()) {
+            Path filePath = testFolder.resolve(format + ".json");
+            new JsonAddressBookStorage(filePath, format).saveAddressBook(original);
+
+            List<List<Person>> batches = new ArrayList<>();
+            assertTrue(new JsonAddressBookStorage(filePath).readPersons(new InternPool(), 3, batches::add));
+            List<Person> readBack = new ArrayList<>();
+            for (int i = 0; i < batches.size(); i++) {
+                assertTrue(i == batches.size() - 1 ? batches.get(i).size() <= 3 : batches.get(i).size() == 3);
+                readBack.addAll(batches.get(i));
+            }
+            assertEquals(original.getPersonList(), readBack);
+        }
+    }
+
+    @Test
+    public void readPersons_missingFile_returnsFalse() throws Exception {
+        List<List<Person>> batches = new ArrayList<>();
+        assertFalse(new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("NonExistentFile.json"))
+                .readPersons(new InternPool(), 3, batches::add));
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    public void readPersons_invalidAndValidPersonAddressBook_throwDataLoadingException() {
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.json"));
+        assertThrows(DataLoadingException.class, () -> storage.readPersons(new InternPool(), 1, batch -> {}));
+    }
+
+    @Test
+    public void readPersons_duplicatePersons_throwDataLoadingException() {
+        JsonAddressBookStorage storage =
+                new JsonAddressBookStorage(TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json"));
+        assertThrows(DataLoadingException.class, () -> storage.readPersons(new InternPool(), 1, batch -> {}));
+    }
+
+    @Test
+    public void saveAddressBook_largeAddressBook_compactAndGzipFilesAreSmaller() throws Exception {
+        AddressBook largeAddressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            largeAddressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(80000000 + i))
+                    .withEmail("person" + i + "@example.com").withTags("friends").build());
+        }
+
+        long[] fileSizes = new long[JsonFileFormat.values().length];
+        for (JsonFileFormat format : JsonFileFormat.values()) {
+            Path filePath = testFolder.resolve(format + ".json");
+            new JsonAddressBookStorage(filePath, format).saveAddressBook(largeAddressBook);
+            fileSizes[format.ordinal()] = Files.size(filePath);
+        }
+
+        assertTrue(fileSizes[JsonFileFormat.COMPACT.ordinal()] < fileSizes[JsonFileFormat.PRETTY.ordinal()]);
+        assertTrue(fileSizes[JsonFileFormat.GZIP.ordinal()] < fileSizes[JsonFileFormat.COMPACT.ordinal()]);
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
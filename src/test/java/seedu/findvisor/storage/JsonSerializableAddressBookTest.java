@@ -1,6 +1,8 @@
 package seedu.findvisor.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
@@ -11,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import seedu.findvisor.commons.exceptions.IllegalValueException;
 import seedu.findvisor.commons.util.JsonUtil;
 import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.tag.Tag;
 import seedu.findvisor.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -29,6 +32,24 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_repeatedTags_sharesTags() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Tag friends = new Tag("friends");
+        Tag[] friendsTags = addressBookFromFile.getPersonList().stream()
+                .flatMap(person -> person.getTags().stream())
+                .filter(friends::equals)
+                .toArray(Tag[]::new);
+        assertTrue(friendsTags.length > 1);
+        for (Tag tag : friendsTags) {
+            assertSame(friendsTags[0], tag);
+        }
+        assertTrue(addressBookFromFile.getInternPool().getSharedCount() >= friendsTags.length - 1);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,
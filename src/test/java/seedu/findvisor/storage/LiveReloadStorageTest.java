@@ -0,0 +1,97 @@
+package seedu.findvisor.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.HOON;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+
+public class LiveReloadStorageTest {
+
+    private static final long CHANGE_TIMEOUT_SECONDS = 20;
+
+    @TempDir
+    public Path testFolder;
+
+    private final BlockingQueue<ReadOnlyAddressBook> reloadedAddressBooks = new LinkedBlockingQueue<>();
+    private Path addressBookFilePath;
+    private LiveReloadStorage liveReloadStorage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFilePath = testFolder.resolve("addressbook.json");
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBook());
+        StorageManager storageManager = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        liveReloadStorage = new LiveReloadStorage(storageManager, reloadedAddressBooks::add);
+        liveReloadStorage.startWatching();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        liveReloadStorage.stopWatching();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new LiveReloadStorage(null, addressBook -> {}));
+        assertThrows(NullPointerException.class, () -> new LiveReloadStorage(liveReloadStorage, null));
+    }
+
+    @Test
+    public void externalChange_reportedToChangeHandler() throws Exception {
+        AddressBook externalAddressBook = getTypicalAddressBook();
+        externalAddressBook.addPerson(HOON);
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(externalAddressBook);
+
+        ReadOnlyAddressBook reloaded = reloadedAddressBooks.poll(CHANGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertEquals(externalAddressBook, new AddressBook(reloaded));
+        assertTrue(liveReloadStorage.isLatestReload(reloaded));
+    }
+
+    @Test
+    public void externalChange_savedBeforeHandled_notLatestReload() throws Exception {
+        AddressBook externalAddressBook = getTypicalAddressBook();
+        externalAddressBook.addPerson(HOON);
+        new JsonAddressBookStorage(addressBookFilePath).saveAddressBook(externalAddressBook);
+        ReadOnlyAddressBook reloaded = reloadedAddressBooks.poll(CHANGE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        liveReloadStorage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(liveReloadStorage.isLatestReload(reloaded));
+    }
+
+    @Test
+    public void ownSave_notReportedToChangeHandler() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(HOON);
+        liveReloadStorage.saveAddressBook(addressBook);
+
+        // checked directly instead of waiting for the watching thread to not report the save
+        liveReloadStorage.reloadIfChangedExternally();
+        assertTrue(reloadedAddressBooks.isEmpty());
+    }
+
+    @Test
+    public void invalidExternalChange_notReportedToChangeHandler() throws Exception {
+        Files.writeString(addressBookFilePath, "not json");
+
+        liveReloadStorage.reloadIfChangedExternally();
+        assertTrue(reloadedAddressBooks.isEmpty());
+    }
+
+}
@@ -0,0 +1,65 @@
+package seedu.findvisor.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+import static seedu.findvisor.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.testutil.PersonBuilder;
+
+public class SavedPersonsTest {
+
+    private final SavedPersons savedPersons = new SavedPersons(List.of(ALICE, BENSON, CARL), List.of(3L, 5L, 9L));
+
+    @Test
+    public void getSeq() {
+        assertEquals(5L, savedPersons.getSeq(BENSON));
+        assertEquals(0L, new SavedPersons(List.of(ALICE, BENSON), null).getSeq(ALICE));
+    }
+
+    @Test
+    public void getChangesTo_noChange_noChanges() {
+        SavedPersons.Changes changes = savedPersons.getChangesTo(List.of(ALICE, BENSON, CARL)).get();
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    public void getChangesTo_changedPersons_returnsChanges() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        SavedPersons.Changes changes = savedPersons.getChangesTo(List.of(editedBenson, CARL, DANIEL)).get();
+
+        // Alice is deleted and Benson moves to her position, so edited Benson is written in place of Alice
+        assertEquals(List.of(editedBenson), changes.getUpdatedPersons());
+        assertEquals(List.of(ALICE), changes.getReplacedPersons());
+        assertEquals(List.of(DANIEL), changes.getInsertedPersons());
+        assertEquals(List.of(BENSON), changes.getDeletedPersons());
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    public void getChangesTo_editedPerson_reusesSeqOfReplacedPerson() {
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        SavedPersons.Changes changes = savedPersons.getChangesTo(List.of(ALICE, editedBenson, CARL, DANIEL)).get();
+
+        assertEquals(List.of(editedBenson), changes.getUpdatedPersons());
+        assertEquals(List.of(BENSON), changes.getReplacedPersons());
+        assertEquals(List.of(DANIEL), changes.getInsertedPersons());
+        assertEquals(List.of(), changes.getDeletedPersons());
+        assertEquals(5L, changes.getSavedPersons().getSeq(editedBenson));
+        assertEquals(10L, changes.getSavedPersons().getSeq(DANIEL));
+    }
+
+    @Test
+    public void getChangesTo_reorderedPersons_empty() {
+        assertFalse(savedPersons.getChangesTo(List.of(BENSON, ALICE, CARL)).isPresent());
+    }
+
+}
@@ -0,0 +1,307 @@
+package seedu.findvisor.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.findvisor.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+import static seedu.findvisor.testutil.TypicalPersons.ALICE;
+import static seedu.findvisor.testutil.TypicalPersons.BENSON;
+import static seedu.findvisor.testutil.TypicalPersons.CARL;
+import static seedu.findvisor.testutil.TypicalPersons.HOON;
+import static seedu.findvisor.testutil.TypicalPersons.IDA;
+import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.JsonFileFormat;
+import seedu.findvisor.commons.util.JsonUtil;
+import seedu.findvisor.model.AddressBook;
+import seedu.findvisor.model.ReadOnlyAddressBook;
+import seedu.findvisor.model.person.Person;
+import seedu.findvisor.testutil.PersonBuilder;
+
+public class SegmentedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void isSegmentedFolder() {
+        assertTrue(SegmentedAddressBookStorage.isSegmentedFolder(Path.of("data", "addressbook.segments")));
+        assertFalse(SegmentedAddressBookStorage.isSegmentedFolder(Path.of("data", "addressbook.json")));
+    }
+
+    @Test
+    public void constructor_nullFileFormat_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SegmentedAddressBookStorage(testFolder, null));
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFolder_emptyResult() throws Exception {
+        assertFalse(new SegmentedAddressBookStorage(getFolder()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_invalidSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.writeString(getSegmentFile(ALICE), "not json");
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_personCountMismatch_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.delete(getSegmentFile(ALICE));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_personInWrongSegment_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path aliceSegmentFile = getSegmentFile(ALICE);
+        Path otherSegmentFile = getSegmentFiles().stream()
+                .filter(file -> !file.equals(aliceSegmentFile))
+                .findFirst().get();
+        Files.copy(aliceSegmentFile, otherSegmentFile, StandardCopyOption.REPLACE_EXISTING);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unversionedSegments_readAndRewritten() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        // a folder as written by earlier versions of the app
+        for (int segment = 0; segment < SegmentedAddressBookStorage.SEGMENT_COUNT; segment++) {
+            Optional<Path> segmentFile = getSegmentFile(segment);
+            if (segmentFile.isPresent()) {
+                Files.move(segmentFile.get(), SegmentedAddressBookStorage.getSegmentFile(getFolder(), segment));
+            }
+        }
+        JsonUtil.saveJsonFile(new JsonSegmentManifest(SegmentedAddressBookStorage.SEGMENT_COUNT,
+                getTypicalAddressBook().getPersonList().size()), getManifestFile());
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(SegmentedAddressBookStorage.SEGMENT_COUNT, storage.getLastSaveSegmentCount());
+        assertFalse(Files.exists(SegmentedAddressBookStorage.getSegmentFile(getFolder(), getSegment(ALICE))));
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_segmentFilesOfFailedSave_ignored() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        // a segment file written by a save that failed before it replaced the manifest
+        Path unusedSegmentFile = SegmentedAddressBookStorage.getSegmentFile(getFolder(), getSegment(ALICE), 99);
+        Files.writeString(unusedSegmentFile, "not json");
+
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(getTypicalAddressBook(), addressBook);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertFalse(Files.exists(unusedSegmentFile));
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_invalidManifest_throwsDataLoadingException() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        JsonUtil.saveJsonFile(new JsonSegmentManifest(0, 0), getManifestFile());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(new AddressBook(), null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path folderPath = testFolder.resolve("TempAddressBook.segments");
+        AddressBook original = getTypicalAddressBook();
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+
+        // Save in new folder and read back
+        storage.saveAddressBook(original, folderPath);
+        ReadOnlyAddressBook readBack = storage.readAddressBook(folderPath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Modify data, overwrite exiting folder, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original, folderPath);
+        readBack = storage.readAddressBook(folderPath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying folder path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original); // folder path not specified
+        readBack = storage.readAddressBook().get(); // folder path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_gzipFormat_success() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder(), JsonFileFormat.GZIP);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_onlyWritesChangedSegments() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(SegmentedAddressBookStorage.SEGMENT_COUNT, storage.getLastSaveSegmentCount());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        // add
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveSegmentCount());
+
+        // edit, keeping the phone of the edited person
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveSegmentCount());
+
+        // edit, changing the phone of the edited person
+        Person editedCarl = new PersonBuilder(CARL).withPhone("81234567").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+        assertEquals(Set.of(getSegment(CARL), getSegment(editedCarl)).size(), storage.getLastSaveSegmentCount());
+
+        // delete
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveSegmentCount());
+
+        // no change
+        storage.saveAddressBook(addressBook);
+        assertEquals(0, storage.getLastSaveSegmentCount());
+
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_largeAddressBook_onlyWritesChangedSegment() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < 1000; i++) {
+            addressBook.addPerson(new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build());
+        }
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(addressBook);
+
+        Person person = addressBook.getPersonList().get(500);
+        addressBook.setPerson(person, new PersonBuilder(person).withAddress(VALID_ADDRESS_BOB).build());
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, storage.getLastSaveSegmentCount());
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_severalChangesBetweenSaves_keepsOrder() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(HOON);
+        addressBook.setPerson(CARL, new PersonBuilder(CARL).withMeeting(Optional.empty()).build());
+        addressBook.setPerson(BENSON, new PersonBuilder(BENSON).withTags().build());
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, new AddressBook(new SegmentedAddressBookStorage(getFolder())
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_clearedAddressBook_deletesAllSegments() throws Exception {
+        SegmentedAddressBookStorage storage = new SegmentedAddressBookStorage(getFolder());
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(List.of(), getSegmentFiles());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    private Path getFolder() {
+        return testFolder.resolve("addressbook.segments");
+    }
+
+    private Path getManifestFile() {
+        return getFolder().resolve(SegmentedAddressBookStorage.MANIFEST_FILE_NAME);
+    }
+
+    /**
+     * Returns the current file of the segment of {@code person}, as named by the manifest.
+     */
+    private Path getSegmentFile(Person person) throws Exception {
+        return getSegmentFile(getSegment(person)).get();
+    }
+
+    /**
+     * Returns the current file of {@code segment}, as named by the manifest, or an empty {@code Optional} if the
+     * segment is empty.
+     */
+    private Optional<Path> getSegmentFile(int segment) throws Exception {
+        long version = JsonUtil.readJsonFile(getManifestFile(), JsonSegmentManifest.class).get()
+                .getSegmentVersions().get(segment);
+        return version == 0
+                ? Optional.empty()
+                : Optional.of(SegmentedAddressBookStorage.getSegmentFile(getFolder(), segment, version));
+    }
+
+    /**
+     * Returns all the segment files in the folder, in the order of their names.
+     */
+    private List<Path> getSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(getFolder())) {
+            return files.filter(file -> file.getFileName().toString().startsWith("segment-"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static int getSegment(Person person) {
+        return SegmentedAddressBookStorage.getSegment(person, SegmentedAddressBookStorage.SEGMENT_COUNT);
+    }
+
+}
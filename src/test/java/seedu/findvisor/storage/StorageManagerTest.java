@@ -2,6 +2,7 @@ package seedu.findvisor.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.findvisor.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
@@ -65,4 +66,15 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getAddressBookFilePath());
     }
 
+    @Test
+    public void createAddressBookStorage_fileExtension_matchingStorage() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(Path.of("data", "addressbook.json"));
+        assertTrue(StorageManager.createAddressBookStorage(userPrefs) instanceof JsonAddressBookStorage);
+        userPrefs.setAddressBookFilePath(Path.of("data", "addressbook.mv.db"));
+        assertTrue(StorageManager.createAddressBookStorage(userPrefs) instanceof JdbcAddressBookStorage);
+        userPrefs.setAddressBookFilePath(Path.of("data", "addressbook.segments"));
+        assertTrue(StorageManager.createAddressBookStorage(userPrefs) instanceof SegmentedAddressBookStorage);
+    }
+
 }
@@ -0,0 +1,87 @@
+package seedu.findvisor.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.findvisor.commons.exceptions.DataLoadingException;
+import seedu.findvisor.commons.util.JsonUtil;
+
+/**
+ * The budgets of the measurements of the performance tests, stored in a JSON file.
+ * A measurement passes if it is at most its budget times the tolerance of the baseline. A time may also exceed its
+ * budget by the minimum margin of the baseline, in milliseconds, which keeps small budgets, e.g. of 0 or 1 ms, from
+ * failing on timer noise. A measurement without a budget fails, so that a baseline that was never recorded cannot
+ * pass unnoticed.
+ * If the baseline is being updated, measurements are recorded as the new budgets instead of being checked.
+ */
+public class PerformanceBaseline {
+
+    /** Set to true to record the measurements as the new budgets. */
+    public static final String UPDATE_BASELINE_PROPERTY = "findvisor.performance.updateBaseline";
+
+    public static final String MESSAGE_MISSING_BUDGET = "There is no budget for %1$s (measured %2$d). "
+            + "Record one with: gradlew performanceTest -PupdateBaseline";
+    public static final String MESSAGE_OVER_BUDGET = "%1$s measured %2$d, over its budget of %3$d "
+            + "(allowing up to %4$d)";
+
+    private double tolerance = 1.5;
+    private long minimumMargin = 50;
+    private Map<String, Long> budgets = new TreeMap<>();
+
+    /**
+     * Returns the baseline in the file at {@code filePath}.
+     */
+    public static PerformanceBaseline read(Path filePath) {
+        try {
+            return JsonUtil.readJsonFile(filePath, PerformanceBaseline.class).orElseGet(PerformanceBaseline::new);
+        } catch (DataLoadingException e) {
+            throw new AssertionError("Performance baseline " + filePath + " could not be read", e);
+        }
+    }
+
+    /**
+     * Writes this baseline to the file at {@code filePath}, if the baseline is being updated.
+     */
+    public void saveIfUpdating(Path filePath) throws IOException {
+        if (isUpdating()) {
+            JsonUtil.saveJsonFile(this, filePath);
+        }
+    }
+
+    private static boolean isUpdating() {
+        return Boolean.getBoolean(UPDATE_BASELINE_PROPERTY);
+    }
+
+    /**
+     * Asserts that the measurement called {@code name} is within its budget, or records it as the new budget if the
+     * baseline is being updated.
+     */
+    public void assertWithinBudget(String name, long measured) {
+        assertWithinBudget(name, measured, 0);
+    }
+
+    /**
+     * Asserts that the time in milliseconds called {@code name} is within its budget, allowing the minimum margin,
+     * or records it as the new budget if the baseline is being updated.
+     */
+    public void assertMillisWithinBudget(String name, long measuredMillis) {
+        assertWithinBudget(name, measuredMillis, minimumMargin);
+    }
+
+    private void assertWithinBudget(String name, long measured, long margin) {
+        if (isUpdating()) {
+            budgets.put(name, measured);
+            return;
+        }
+
+        Long budget = budgets.get(name);
+        assertTrue(budget != null, () -> String.format(MESSAGE_MISSING_BUDGET, name, measured));
+        long allowed = Math.max((long) (budget * tolerance), budget + margin);
+        assertTrue(measured <= allowed, () -> String.format(MESSAGE_OVER_BUDGET, name, measured, budget, allowed));
+    }
+
+}
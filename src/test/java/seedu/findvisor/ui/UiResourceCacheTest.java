@@ -0,0 +1,51 @@
+package seedu.findvisor.ui;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.findvisor.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.findvisor.MainApp;
+
+public class UiResourceCacheTest {
+
+    private static final String VALID_FILE_PATH = "/view/UiPartTest/validFile.fxml";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void openFxml_nullUrl_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> UiResourceCache.openFxml(null));
+    }
+
+    @Test
+    public void openFxml_missingFile_throwsIoException() throws Exception {
+        URL missingFileUrl = testFolder.resolve("missingFile.fxml").toUri().toURL();
+        assertThrows(IOException.class, () -> UiResourceCache.openFxml(missingFileUrl));
+    }
+
+    @Test
+    public void openFxml_validFile_returnsSameContentOnEveryCall() throws Exception {
+        URL validFileUrl = MainApp.class.getResource(VALID_FILE_PATH);
+        assertNotNull(validFileUrl);
+
+        byte[] expectedContent;
+        try (InputStream inputStream = validFileUrl.openStream()) {
+            expectedContent = inputStream.readAllBytes();
+        }
+        try (InputStream firstRead = UiResourceCache.openFxml(validFileUrl);
+                InputStream secondRead = UiResourceCache.openFxml(validFileUrl)) {
+            assertArrayEquals(expectedContent, firstRead.readAllBytes());
+            assertArrayEquals(expectedContent, secondRead.readAllBytes());
+        }
+    }
+
+}